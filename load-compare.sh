@@ -0,0 +1,53 @@
+#!/bin/bash
+
+# Compares platform-thread and virtual-thread request handling on the student endpoints.
+#
+# Requirements: a jar built on Java 21 (./mvnw -Pjava21 -DskipTests package), MySQL reachable
+# with the settings in application.properties, and `hey` (https://github.com/rakyll/hey).
+#
+# Usage: ./load-compare.sh [requests] [concurrency]
+
+set -euo pipefail
+
+REQUESTS=${1:-20000}
+CONCURRENCY=${2:-400}
+PORT=8080
+BASE_URL="http://localhost:${PORT}/api/v1/students"
+JAR=$(ls target/course-api-*.jar | grep -v plain | head -n 1)
+
+run_mode() {
+    local mode=$1
+    local profiles=$2
+
+    echo "=========================================="
+    echo "Mode: ${mode}"
+    echo "=========================================="
+
+    java -jar "${JAR}" --spring.profiles.active="${profiles}" --spring.jpa.show-sql=false \
+        --app.cache.students.enabled=false > "target/load-${mode}.log" 2>&1 &
+    local pid=$!
+    trap "kill ${pid} 2>/dev/null || true" EXIT
+
+    until curl -sf "${BASE_URL}?limit=1" > /dev/null; do
+        sleep 1
+    done
+
+    # Warm up the JIT and the connection pool before measuring
+    hey -n 2000 -c 50 "${BASE_URL}/1" > /dev/null
+
+    echo "--- GET ${BASE_URL}/1"
+    hey -n "${REQUESTS}" -c "${CONCURRENCY}" "${BASE_URL}/1" | grep -E "Requests/sec|Average|99%|\[[0-9]{3}\]"
+    echo "--- GET ${BASE_URL}?limit=50"
+    hey -n "${REQUESTS}" -c "${CONCURRENCY}" "${BASE_URL}?limit=50" | grep -E "Requests/sec|Average|99%|\[[0-9]{3}\]"
+
+    kill "${pid}"
+    wait "${pid}" 2>/dev/null || true
+    trap - EXIT
+}
+
+run_mode platform default
+run_mode virtual virtual-threads
+
+echo ""
+echo "Pinning warnings in virtual mode:"
+grep -c "pinned to its carrier" target/load-virtual.log || true
@@ -0,0 +1,181 @@
+package com.example.course_api.application.port.output;
+
+import com.example.course_api.domain.model.Student;
+import com.example.course_api.domain.model.StudentCollectionVersion;
+import com.example.course_api.domain.model.StudentField;
+import com.example.course_api.domain.model.StudentSearchCriteria;
+import com.example.course_api.domain.model.StudentSearchResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Map-backed {@link StudentRepositoryPort} for benchmarks, so the numbers measure our own
+ * mapping, validation and serialization and not a database round trip.
+ */
+public class InMemoryStudentRepositoryPort implements StudentRepositoryPort {
+
+    private final TreeMap<Long, Student> students = new TreeMap<>();
+    private final Map<String, Long> idsByEmail = new HashMap<>();
+    private long nextId = 1;
+    private long version = 1;
+
+    public static InMemoryStudentRepositoryPort withStudents(int count) {
+        InMemoryStudentRepositoryPort port = new InMemoryStudentRepositoryPort();
+        for (int i = 0; i < count; i++) {
+            port.insert(new Student("First" + i, "Last" + i, "student" + i + "@email.com"));
+        }
+        return port;
+    }
+
+    @Override
+    public Student insert(Student student) {
+        Student created = new Student(nextId++, student.getFirstName(), student.getLastName(), student.getEmail(),
+                version++);
+        students.put(created.getStudentId(), created);
+        idsByEmail.put(created.getEmail(), created.getStudentId());
+        return created;
+    }
+
+    @Override
+    public Optional<Student> update(Student student) {
+        if (!students.containsKey(student.getStudentId())) {
+            return Optional.empty();
+        }
+        Student updated = new Student(student.getStudentId(), student.getFirstName(), student.getLastName(),
+                student.getEmail(), version++);
+        students.put(updated.getStudentId(), updated);
+        idsByEmail.put(updated.getEmail(), updated.getStudentId());
+        return Optional.of(updated);
+    }
+
+    @Override
+    public Optional<Student> findById(Long id) {
+        return Optional.ofNullable(students.get(id));
+    }
+
+    @Override
+    public List<Student> findAll() {
+        return new ArrayList<>(students.values());
+    }
+
+    @Override
+    public List<Student> findPageAfter(Long afterId, int limit) {
+        Collection<Student> tail = afterId == null ? students.values() : students.tailMap(afterId, false).values();
+        return tail.stream().limit(limit).toList();
+    }
+
+    @Override
+    public List<Student> findAll(Set<StudentField> fields) {
+        return students.values().stream().map(student -> project(student, fields)).toList();
+    }
+
+    @Override
+    public List<Student> findPageAfter(Long afterId, int limit, Set<StudentField> fields) {
+        return findPageAfter(afterId, limit).stream().map(student -> project(student, fields)).toList();
+    }
+
+    @Override
+    public StudentSearchResult search(StudentSearchCriteria criteria) {
+        Comparator<Student> order = switch (criteria.getSortField()) {
+            case LAST_NAME -> Comparator.comparing(Student::getLastName).thenComparing(Student::getFirstName)
+                    .thenComparing(Student::getStudentId);
+            case FIRST_NAME -> Comparator.comparing(Student::getFirstName).thenComparing(Student::getLastName)
+                    .thenComparing(Student::getStudentId);
+            case STUDENT_ID -> Comparator.comparing(Student::getStudentId);
+        };
+        List<Student> found = students.values().stream()
+                .filter(student -> startsWith(student.getLastName(), criteria.getLastNamePrefix()))
+                .filter(student -> startsWith(student.getFirstName(), criteria.getFirstNamePrefix()))
+                .filter(student -> startsWith(student.getEmail().substring(student.getEmail().indexOf('@') + 1),
+                        criteria.getEmailDomainPrefix()))
+                .sorted(criteria.isDescending() ? order.reversed() : order)
+                .limit(criteria.getLimit())
+                .toList();
+        return new StudentSearchResult(found, null, false);
+    }
+
+    @Override
+    public List<Student> suggest(String query, int limit) {
+        return search(new StudentSearchCriteria(query, null, null, StudentSearchCriteria.SortField.LAST_NAME, false,
+                limit)).getStudents();
+    }
+
+    @Override
+    public void streamAll(Consumer<Student> consumer) {
+        students.values().forEach(consumer);
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        Student removed = students.remove(id);
+        if (removed != null) {
+            idsByEmail.remove(removed.getEmail());
+        }
+        return removed != null;
+    }
+
+    @Override
+    public int deleteAllById(Collection<Long> ids) {
+        int deleted = 0;
+        for (Long id : ids) {
+            if (deleteById(id)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return idsByEmail.containsKey(email);
+    }
+
+    @Override
+    public Map<String, Long> findIdsByEmails(Collection<String> emails) {
+        Map<String, Long> found = new HashMap<>();
+        for (String email : emails) {
+            Long id = idsByEmail.get(email);
+            if (id != null) {
+                found.put(email, id);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public List<Student> insertAll(List<Student> batch) {
+        return batch.stream().map(this::insert).toList();
+    }
+
+    @Override
+    public List<Student> updateAll(List<Student> batch) {
+        return batch.stream().map(this::update).flatMap(Optional::stream).toList();
+    }
+
+    @Override
+    public StudentCollectionVersion findCollectionVersion() {
+        return new StudentCollectionVersion(version - 1, students.size());
+    }
+
+    private static boolean startsWith(String value, String prefix) {
+        return prefix == null || value.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
+    private static Student project(Student student, Set<StudentField> fields) {
+        return Student.rehydrate(
+                fields.contains(StudentField.STUDENT_ID) ? student.getStudentId() : null,
+                fields.contains(StudentField.FIRST_NAME) ? student.getFirstName() : null,
+                fields.contains(StudentField.LAST_NAME) ? student.getLastName() : null,
+                fields.contains(StudentField.EMAIL) ? student.getEmail() : null,
+                fields.contains(StudentField.VERSION) ? student.getVersion() : null);
+    }
+}
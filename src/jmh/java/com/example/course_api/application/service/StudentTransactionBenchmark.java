@@ -0,0 +1,93 @@
+package com.example.course_api.application.service;
+
+import com.example.course_api.CourseApiApplication;
+import com.example.course_api.infrastructure.adapter.output.persistence.StudentJpaEntity;
+import com.example.course_api.infrastructure.adapter.output.persistence.StudentJpaRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading every student as managed entities, the way {@code getAllStudents} does, inside a
+ * read-only and a read-write transaction against an in-memory H2 database. The read-only
+ * transaction skips Hibernate's loaded-state snapshots and the flush-time dirty check; run with
+ * {@code -prof gc} to see the allocation difference as well.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StudentTransactionBenchmark {
+
+    @Param({"1000", "10000"})
+    int size;
+
+    @Param({"readOnly", "readWrite"})
+    String transaction;
+
+    private ConfigurableApplicationContext context;
+    private StudentJpaRepository repository;
+    private TransactionTemplate template;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(CourseApiApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:transactions;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "app.controller.enabled=false",
+                        "app.cache.students.enabled=false",
+                        "app.students.email-filter.enabled=false",
+                        "app.students.suggest.enabled=false",
+                        "app.jdbc.statement-log.enabled=false")
+                .run();
+        repository = context.getBean(StudentJpaRepository.class);
+        template = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        template.setReadOnly("readOnly".equals(transaction));
+
+        List<Object[]> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            rows.add(new Object[] {"First" + i, "Last" + i, "student" + i + "@email.com", "email.com", i + 1L});
+        }
+        context.getBean(JdbcTemplate.class).batchUpdate(
+                "INSERT INTO tbl_students (first_name, last_name, email_address, email_domain, version) "
+                        + "VALUES (?, ?, ?, ?, ?)", rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<StudentJpaEntity> findAll() {
+        return template.execute(status -> repository.findAll());
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.course_api.domain.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Construction of a validated {@link Student}, which runs on every request body, against
+ * {@link Student#rehydrate} used for rows read back from the database, and the email check
+ * against the regex it replaced.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StudentValidationBenchmark {
+
+    private static final String EMAIL_REGEX = "^[A-Za-z0-9+_.-]+@(.+)$";
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL_REGEX);
+
+    // Non-final so the JIT cannot constant-fold the inputs.
+    private String firstName = "Juan";
+    private String lastName = "Pérez";
+    private String email = "juan.perez@email.com";
+
+    @Benchmark
+    public Student newStudent() {
+        return new Student(1L, firstName, lastName, email, 1L);
+    }
+
+    @Benchmark
+    public Student rehydrate() {
+        return Student.rehydrate(1L, firstName, lastName, email, 1L);
+    }
+
+    @Benchmark
+    public boolean emailStringMatches() {
+        return email.matches(EMAIL_REGEX);
+    }
+
+    @Benchmark
+    public boolean emailPrecompiledPattern() {
+        return EMAIL_PATTERN.matcher(email).matches();
+    }
+
+    @Benchmark
+    public boolean emailHandWritten() {
+        return Student.isValidEmailFormat(email);
+    }
+
+    @Benchmark
+    public Student update() {
+        Student student = new Student(1L, firstName, lastName, email, 1L);
+        student.update(lastName, firstName, email);
+        return student;
+    }
+}
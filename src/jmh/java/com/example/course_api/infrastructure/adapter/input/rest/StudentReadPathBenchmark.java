@@ -0,0 +1,106 @@
+package com.example.course_api.infrastructure.adapter.input.rest;
+
+import com.example.course_api.application.port.output.InMemoryStudentRepositoryPort;
+import com.example.course_api.application.service.StudentService;
+import com.example.course_api.domain.model.Student;
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * REST -> use case -> port hot path for GET /api/v1/students and GET /api/v1/students/{id}.
+ * Run with {@code ./mvnw -Pbenchmarks -DskipTests verify -Djmh.include=StudentReadPathBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentReadPathBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SingleRow {
+        StudentController controller;
+        ObjectMapper objectMapper;
+        ServletWebRequest request;
+        Student student;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            objectMapper = Jackson2ObjectMapperBuilder.json().serializers(new StudentResponseSerializer()).build();
+            controller = new StudentController(
+                    new StudentService(InMemoryStudentRepositoryPort.withStudents(1), new StaticMessageSource()),
+                    objectMapper);
+            request = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/v1/students/1"));
+            student = new Student(1L, "Juan", "Pérez", "juan.perez@email.com", 1L);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Rows {
+        @Param({"1000", "100000"})
+        int size;
+
+        StudentController controller;
+        ObjectMapper objectMapper;
+        ServletWebRequest request;
+        List<Student> students;
+        List<StudentResponse> responses;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            InMemoryStudentRepositoryPort port = InMemoryStudentRepositoryPort.withStudents(size);
+            objectMapper = Jackson2ObjectMapperBuilder.json().serializers(new StudentResponseSerializer()).build();
+            controller = new StudentController(new StudentService(port, new StaticMessageSource()), objectMapper);
+            request = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/v1/students"));
+            students = port.findAll();
+            responses = students.stream().map(controller::toResponse).toList();
+        }
+    }
+
+    @Benchmark
+    public byte[] getById(SingleRow state) throws Exception {
+        return state.objectMapper.writeValueAsBytes(state.controller.getById(1L, null, state.request).getBody());
+    }
+
+    @Benchmark
+    public StudentResponse toResponse(SingleRow state) {
+        return state.controller.toResponse(state.student);
+    }
+
+    @Benchmark
+    public byte[] getAll(Rows state) throws Exception {
+        return state.objectMapper.writeValueAsBytes(state.controller.getAll(null, state.request).getBody());
+    }
+
+    @Benchmark
+    public void toResponseList(Rows state, Blackhole blackhole) {
+        for (Student student : state.students) {
+            blackhole.consume(state.controller.toResponse(student));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeList(Rows state) throws Exception {
+        return state.objectMapper.writeValueAsBytes(state.responses);
+    }
+}
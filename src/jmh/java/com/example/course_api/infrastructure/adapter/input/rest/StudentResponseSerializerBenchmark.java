@@ -0,0 +1,67 @@
+package com.example.course_api.infrastructure.adapter.input.rest;
+
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing a {@code List<StudentResponse>} with Jackson's bean serializer ({@code bean}) and with
+ * {@link StudentResponseSerializer} ({@code precompiled}). Output goes to a null stream, so
+ * {@code gc.alloc.rate.norm} divided by {@code size} is the allocation per element inside
+ * Jackson and the serializer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StudentResponseSerializerBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    @Param({"bean", "precompiled"})
+    String serializer;
+
+    private ObjectWriter writer;
+    private List<StudentResponse> responses;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("precompiled".equals(serializer)) {
+            builder.serializers(new StudentResponseSerializer());
+        }
+        writer = builder.build().writerFor(new TypeReference<List<StudentResponse>>() {
+        });
+        responses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            responses.add(new StudentResponse(i + 1L, "First" + i, "Last" + i, "student" + i + "@email.com", i + 1L));
+        }
+    }
+
+    @Benchmark
+    public void writeList() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), responses);
+    }
+}
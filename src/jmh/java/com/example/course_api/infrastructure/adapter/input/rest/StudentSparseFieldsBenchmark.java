@@ -0,0 +1,81 @@
+package com.example.course_api.infrastructure.adapter.input.rest;
+
+import com.example.course_api.application.port.output.InMemoryStudentRepositoryPort;
+import com.example.course_api.application.service.StudentService;
+import com.example.course_api.domain.model.Student;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /api/v1/students with and without {@code ?fields=studentId,email}. Besides the timing, the
+ * setup prints the JSON payload size and an estimate of the bytes MySQL sends for the selected
+ * columns (text protocol: each value as text plus a one-byte length prefix).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StudentSparseFieldsBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    @Param({"*", "studentId,email"})
+    String fields;
+
+    private StudentController controller;
+    private ObjectMapper objectMapper;
+    private ServletWebRequest request;
+    private String fieldsParam;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().serializers(new StudentResponseSerializer()).build();
+        controller = new StudentController(
+                new StudentService(InMemoryStudentRepositoryPort.withStudents(size), new StaticMessageSource()),
+                objectMapper);
+        request = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/v1/students"));
+        fieldsParam = "*".equals(fields) ? null : fields;
+
+        byte[] payload = getAll();
+        long rowBytes = 0;
+        for (Student student : InMemoryStudentRepositoryPort.withStudents(size).findAll()) {
+            rowBytes += columnBytes(student.getStudentId())
+                    + ("*".equals(fields) ? columnBytes(student.getFirstName()) + columnBytes(student.getLastName())
+                            + columnBytes(student.getVersion()) : 0)
+                    + columnBytes(student.getEmail());
+        }
+        System.out.printf("%n[fields=%s, size=%d] payload %d bytes (%.1f per row), DB rows ~%d bytes (%.1f per row)%n",
+                fields, size, payload.length, (double) payload.length / size, rowBytes, (double) rowBytes / size);
+    }
+
+    @Benchmark
+    public byte[] getAll() throws Exception {
+        List<?> body = controller.getAll(fieldsParam, request).getBody();
+        return objectMapper.writeValueAsBytes(body);
+    }
+
+    private static long columnBytes(Object value) {
+        return String.valueOf(value).length() + 1;
+    }
+}
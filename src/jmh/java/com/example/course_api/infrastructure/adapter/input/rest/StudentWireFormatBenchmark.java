@@ -0,0 +1,94 @@
+package com.example.course_api.infrastructure.adapter.input.rest;
+
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encode and decode time of a {@code List<StudentResponse>} per wire format, as a caller of
+ * GET /api/v1/students would see it. {@code json-gzip} is JSON with the server's gzip
+ * compression. The setup prints the encoded size of each format.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StudentWireFormatBenchmark {
+
+    private static final TypeReference<List<StudentResponse>> STUDENT_LIST = new TypeReference<>() {
+    };
+
+    @Param({"1000", "100000"})
+    int size;
+
+    @Param({"json", "json-gzip", "cbor", "smile"})
+    String format;
+
+    private ObjectMapper mapper;
+    private boolean gzip;
+    private List<StudentResponse> responses;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = switch (format) {
+            case "json", "json-gzip" -> Jackson2ObjectMapperBuilder.json();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile();
+            default -> throw new IllegalArgumentException(format);
+        };
+        mapper = builder.serializers(new StudentResponseSerializer()).build();
+        gzip = format.endsWith("-gzip");
+        responses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            responses.add(new StudentResponse(i + 1L, "First" + i, "Last" + i, "student" + i + "@email.com", i + 1L));
+        }
+        encoded = encode();
+        System.out.printf("%n[format=%s, size=%d] %d bytes on the wire (%.1f per student)%n",
+                format, size, encoded.length, (double) encoded.length / size);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(encoded == null ? 8_192 : encoded.length);
+        try (OutputStream out = gzip ? new GZIPOutputStream(bytes) : bytes) {
+            mapper.writeValue(out, responses);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public List<StudentResponse> decode() throws IOException {
+        try (InputStream in = gzip
+                ? new GZIPInputStream(new ByteArrayInputStream(encoded))
+                : new ByteArrayInputStream(encoded)) {
+            return mapper.readValue(in, STUDENT_LIST);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import com.example.course_api.domain.model.Student;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning loaded {@link StudentJpaEntity} rows into domain students, which every read
+ * through {@link StudentRepositoryAdapter} pays once per row.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StudentMappingBenchmark {
+
+    @Param({"1", "1000", "100000"})
+    int size;
+
+    private StudentRepositoryAdapter adapter;
+    private List<StudentJpaEntity> entities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Mapping touches none of the collaborators.
+        adapter = new StudentRepositoryAdapter(null, null, null, null, null, null, null, null);
+        entities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            StudentJpaEntity entity = new StudentJpaEntity();
+            entity.setStudentId((long) i + 1);
+            entity.setFirstName("First" + i);
+            entity.setLastName("Last" + i);
+            entity.setEmail("student" + i + "@email.com");
+            entity.setVersion((long) i + 1);
+            entities.add(entity);
+        }
+    }
+
+    @Benchmark
+    public void toDomainModel(Blackhole blackhole) {
+        for (StudentJpaEntity entity : entities) {
+            Student student = adapter.toDomainModel(entity);
+            blackhole.consume(student);
+        }
+    }
+}
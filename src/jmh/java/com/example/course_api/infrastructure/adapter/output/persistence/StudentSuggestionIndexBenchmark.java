@@ -0,0 +1,53 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of a type-ahead lookup in {@link StudentSuggestionIndex} for a single-word prefix and
+ * for a multi-word query that has to check candidate rows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StudentSuggestionIndexBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    private StudentSuggestionIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new StudentSuggestionIndex(size);
+        for (int i = 0; i < size; i++) {
+            index.put(i + 1L, "First" + i, "Last" + i, "student" + i + "@email.com", 1L);
+        }
+    }
+
+    @Benchmark
+    public void prefix(Blackhole blackhole) {
+        blackhole.consume(index.suggest("last9", 10));
+    }
+
+    @Benchmark
+    public void multiWord(Blackhole blackhole) {
+        blackhole.consume(index.suggest("first9 last9", 10));
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.course_api.infrastructure.metrics;
+
+import com.example.course_api.application.port.output.InMemoryStudentRepositoryPort;
+import com.example.course_api.application.port.output.StudentRepositoryPort;
+import com.example.course_api.domain.model.Student;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of {@link TimedStudentRepositoryPort} on a port call that does almost nothing, with
+ * the Prometheus registry used in production. {@code gc.alloc.rate.norm} should be the same
+ * for {@code plain} and {@code timed}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StudentMetricsOverheadBenchmark {
+
+    private StudentRepositoryPort plain;
+    private StudentRepositoryPort timed;
+    private Long studentId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        plain = InMemoryStudentRepositoryPort.withStudents(1_000);
+        timed = new TimedStudentRepositoryPort(plain, new PrometheusMeterRegistry(PrometheusConfig.DEFAULT),
+                "studentRepositoryAdapter");
+        studentId = 500L;
+    }
+
+    @Benchmark
+    public Optional<Student> plain() {
+        return plain.findById(studentId);
+    }
+
+    @Benchmark
+    public Optional<Student> timed() {
+        return timed.findById(studentId);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.course_api.application.port.input;
+
+import com.example.course_api.domain.model.StudentChangeEvent;
+
+public interface StudentEventFeedUseCase {
+
+    /**
+     * Delivers every change committed after {@code lastEventId} to {@code listener}, then every new
+     * change as it is relayed. With a {@code null} {@code lastEventId} only new changes are delivered.
+     */
+    Subscription subscribe(Long lastEventId, Listener listener);
+
+    /**
+     * Called from one thread at a time per subscription. A listener that throws is unsubscribed.
+     */
+    interface Listener {
+        void onEvent(StudentChangeEvent event);
+
+        /**
+         * The requested {@code lastEventId} is further behind than the feed can replay; the
+         * subscriber has to reload the students and continue from the events that follow.
+         */
+        void onReset();
+
+        /**
+         * The subscription ended on the feed's side: the subscriber fell too far behind, or the
+         * application is shutting down. Reconnecting with the last event ID received resumes it.
+         */
+        void onClose();
+    }
+
+    interface Subscription {
+        void cancel();
+    }
+}
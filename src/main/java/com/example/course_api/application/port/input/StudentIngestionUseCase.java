@@ -0,0 +1,11 @@
+package com.example.course_api.application.port.input;
+
+import com.example.course_api.domain.model.Student;
+import com.example.course_api.domain.model.StudentIngestion;
+
+import java.util.Optional;
+
+public interface StudentIngestionUseCase {
+    StudentIngestion submitStudent(Student student);
+    Optional<StudentIngestion> getIngestion(String trackingId);
+}
@@ -1,16 +1,34 @@
 package com.example.course_api.application.port.input;
 
 import com.example.course_api.domain.model.Student;
+import com.example.course_api.domain.model.StudentCollectionVersion;
+import com.example.course_api.domain.model.StudentField;
+import com.example.course_api.domain.model.StudentPage;
+import com.example.course_api.domain.model.StudentSearchCriteria;
+import com.example.course_api.domain.model.StudentSearchResult;
+import com.example.course_api.domain.model.StudentUpsertResult;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface StudentUseCase {
     List<Student> getAllStudents();
+    List<Student> getAllStudents(Set<StudentField> fields);
+    StudentPage getStudentsPage(Long afterId, int limit);
+    StudentPage getStudentsPage(Long afterId, int limit, Set<StudentField> fields);
+    StudentSearchResult searchStudents(StudentSearchCriteria criteria);
+    List<Student> suggestStudents(String query, int limit);
+    StudentCollectionVersion getStudentsVersion();
+    void exportStudents(Consumer<Student> consumer);
     Optional<Student> getStudentById(Long id);
     Student createStudent(Student student);
     Student updateStudent(Long id, Student student);
+    List<StudentUpsertResult> upsertStudents(List<Student> students);
     void deleteStudent(Long id);
+    int deleteStudents(Collection<Long> ids);
 }
 
 
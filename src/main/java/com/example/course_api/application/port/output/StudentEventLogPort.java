@@ -0,0 +1,28 @@
+package com.example.course_api.application.port.output;
+
+import com.example.course_api.domain.model.StudentChangeEvent;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Read side of the student outbox. Rows are appended by {@link StudentRepositoryPort}'s writes in
+ * the same transaction as the change they describe.
+ */
+public interface StudentEventLogPort {
+
+    /**
+     * Up to {@code limit} committed events with an ID greater than {@code eventId}, oldest first.
+     */
+    List<StudentChangeEvent> findAfter(long eventId, int limit);
+
+    /**
+     * The committed events among {@code eventIds}, oldest first.
+     */
+    List<StudentChangeEvent> findByIds(Collection<Long> eventIds);
+
+    long findLatestEventId();
+
+    int deleteOlderThan(Instant cutoff);
+}
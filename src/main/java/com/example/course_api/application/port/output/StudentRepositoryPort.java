@@ -1,16 +1,42 @@
 package com.example.course_api.application.port.output;
 
 import com.example.course_api.domain.model.Student;
+import com.example.course_api.domain.model.StudentCollectionVersion;
+import com.example.course_api.domain.model.StudentField;
+import com.example.course_api.domain.model.StudentSearchCriteria;
+import com.example.course_api.domain.model.StudentSearchResult;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface StudentRepositoryPort {
-    Student save(Student student);
+    Student insert(Student student);
+    Optional<Student> update(Student student);
     Optional<Student> findById(Long id);
     List<Student> findAll();
-    void deleteById(Long id);
+    List<Student> findPageAfter(Long afterId, int limit);
+
+    /**
+     * Same as {@link #findAll()} and {@link #findPageAfter(Long, int)}, but only {@code fields}
+     * are read from storage. The other fields of the returned students are {@code null}.
+     */
+    List<Student> findAll(Set<StudentField> fields);
+    List<Student> findPageAfter(Long afterId, int limit, Set<StudentField> fields);
+
+    StudentSearchResult search(StudentSearchCriteria criteria);
+    List<Student> suggest(String query, int limit);
+    void streamAll(Consumer<Student> consumer);
+    boolean deleteById(Long id);
+    int deleteAllById(Collection<Long> ids);
     boolean existsByEmail(String email);
+    Map<String, Long> findIdsByEmails(Collection<String> emails);
+    List<Student> insertAll(List<Student> students);
+    List<Student> updateAll(List<Student> students);
+    StudentCollectionVersion findCollectionVersion();
 }
 
 
@@ -0,0 +1,407 @@
+package com.example.course_api.application.service;
+
+import com.example.course_api.application.port.input.StudentEventFeedUseCase;
+import com.example.course_api.application.port.output.StudentEventLogPort;
+import com.example.course_api.domain.model.StudentChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Relays the student outbox to subscribers of the change feed.
+ *
+ * <p>A single relay thread per instance reads new outbox rows every {@code poll-interval}, at most
+ * {@code batch-size} at a time, and hands each event to every subscriber. The database cost is
+ * one query per poll, however many subscribers there are. Each subscriber has a buffer of
+ * {@code subscriber-buffer} events, drained by a sender thread of its own while it has events, so
+ * a slow client never holds up the relay or the other subscribers. A subscriber whose buffer is
+ * full is closed; it resumes from its last event ID when it reconnects.
+ *
+ * <p>Outbox IDs are assigned at insert but become visible at commit, and concurrent writes commit
+ * in any order. An ID missing below a committed one may therefore belong to a write that is still
+ * running, or to one that will never appear: its transaction rolled back, or the database reserved
+ * more auto-increment values than an {@code INSERT ... SELECT} used. The relay does not wait at a
+ * missing ID. It remembers it and reads it again for {@code gap-timeout}; an event that turns up in
+ * that time is relayed late, after events with higher IDs. An ID still missing after that is
+ * counted in {@code students.events.skipped} and logged, so {@code gap-timeout} must exceed the
+ * longest write transaction.
+ *
+ * <p>Resuming from a {@code lastEventId} reads the missed events from the outbox once per
+ * subscription, without holding up the relay; only the events relayed while that read ran are
+ * read under the relay's lock. Events older than {@code retention} are pruned and cannot be
+ * replayed; neither can more than {@code subscriber-buffer} of them, and such a subscriber is told
+ * to reload instead.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "app.students.events.enabled", havingValue = "true", matchIfMissing = true)
+public class StudentEventRelay implements StudentEventFeedUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentEventRelay.class);
+    private static final long PRUNE_INTERVAL_NANOS = Duration.ofMinutes(1).toNanos();
+    private static final long SHUTDOWN_MILLIS = 5_000;
+    private static final long GAP_RECHECK_NANOS = Duration.ofSeconds(1).toNanos();
+    // Bounds the IN list of the re-read; IDs beyond it are given up on at once.
+    private static final int MAX_GAPS = 1_000;
+
+    private final StudentEventLogPort eventLog;
+    private final int batchSize;
+    private final int subscriberBuffer;
+    private final long pollMillis;
+    private final long gapTimeoutNanos;
+    private final long gapRecheckNanos;
+    private final Duration retention;
+    private final Executor sender;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Object publishLock = new Object();
+    private final Object idle = new Object();
+    private final Counter relayedEvents;
+    private final Counter overflowedSubscribers;
+    private final Counter skippedEvents;
+
+    // Written under publishLock: the ID of the last event handed to subscribers, -1 until started.
+    private volatile long relayedEventId = -1;
+    // Relay thread only: missing IDs below relayedEventId, with the time to give up on each.
+    private final NavigableMap<Long, Long> gaps = new TreeMap<>();
+    private long nextGapRecheckNanos;
+    private long lastPruneNanos = System.nanoTime();
+
+    private volatile boolean running = true;
+    private volatile Thread relay;
+
+    @Autowired
+    public StudentEventRelay(StudentEventLogPort eventLog, ObjectProvider<MeterRegistry> meterRegistry,
+                             @Value("${app.students.events.poll-interval:200ms}") Duration pollInterval,
+                             @Value("${app.students.events.batch-size:500}") int batchSize,
+                             @Value("${app.students.events.subscriber-buffer:1000}") int subscriberBuffer,
+                             @Value("${app.students.events.gap-timeout:1m}") Duration gapTimeout,
+                             @Value("${app.students.events.retention:24h}") Duration retention) {
+        this(eventLog, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), pollInterval, batchSize,
+                subscriberBuffer, gapTimeout, retention, senderPool());
+    }
+
+    StudentEventRelay(StudentEventLogPort eventLog, MeterRegistry meterRegistry, Duration pollInterval, int batchSize,
+                      int subscriberBuffer, Duration gapTimeout, Duration retention, Executor sender) {
+        this.eventLog = eventLog;
+        this.pollMillis = pollInterval.toMillis();
+        this.batchSize = batchSize;
+        this.subscriberBuffer = subscriberBuffer;
+        this.gapTimeoutNanos = gapTimeout.toNanos();
+        this.gapRecheckNanos = Math.min(GAP_RECHECK_NANOS, gapTimeoutNanos);
+        this.retention = retention;
+        this.sender = sender;
+        this.relayedEvents = meterRegistry.counter("students.events.relayed");
+        this.overflowedSubscribers = meterRegistry.counter("students.events.overflows");
+        this.skippedEvents = meterRegistry.counter("students.events.skipped");
+        Gauge.builder("students.events.subscribers", subscribers, Set::size).register(meterRegistry);
+    }
+
+    // After startup, once the schema exists.
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        initialize();
+        relay = new Thread(this::relayLoop, "student-event-relay");
+        relay.setDaemon(true);
+        relay.start();
+    }
+
+    /**
+     * Starts relaying after the latest event in the outbox: only changes from now on are relayed
+     * live, older ones are for subscribers that resume.
+     */
+    void initialize() {
+        synchronized (publishLock) {
+            if (relayedEventId < 0) {
+                relayedEventId = eventLog.findLatestEventId();
+            }
+        }
+    }
+
+    @Override
+    public Subscription subscribe(final Long lastEventId, final Listener listener) {
+        final Subscriber subscriber = new Subscriber(listener, lastEventId == null ? 0 : lastEventId);
+        initialize();
+        // Read before taking publishLock, so that reconnecting clients do not hold up the relay.
+        final List<StudentChangeEvent> backlog = lastEventId != null && lastEventId < relayedEventId
+                ? readBacklog(lastEventId) : null;
+        synchronized (publishLock) {
+            // Registered under the lock, so the backlog ends exactly where live delivery starts.
+            if (lastEventId != null && lastEventId < relayedEventId) {
+                final List<StudentChangeEvent> events = new ArrayList<>(
+                        backlog == null ? readBacklog(lastEventId) : backlog);
+                final long readUpTo = events.isEmpty() ? lastEventId : events.get(events.size() - 1).getEventId();
+                if (events.size() < subscriberBuffer + 2 && readUpTo < relayedEventId) {
+                    // Relayed while the backlog was being read.
+                    events.addAll(eventLog.findAfter(readUpTo, subscriberBuffer + 1));
+                }
+                // The last event the subscriber saw is read back too: if it was pruned, so may be the ones after it.
+                final boolean pruned = lastEventId > 0
+                        && (events.isEmpty() || events.get(0).getEventId() != lastEventId);
+                final List<StudentChangeEvent> missed = events.stream()
+                        .filter(event -> event.getEventId() > lastEventId && event.getEventId() <= relayedEventId)
+                        .toList();
+                if (pruned || missed.size() > subscriberBuffer) {
+                    subscriber.resetPending = true;
+                } else {
+                    missed.forEach(event -> subscriber.buffer.add(new Delivery(event, false)));
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        subscriber.schedule();
+        return subscriber;
+    }
+
+    private List<StudentChangeEvent> readBacklog(final long lastEventId) {
+        return eventLog.findAfter(lastEventId - 1, subscriberBuffer + 2);
+    }
+
+    /**
+     * Stops relaying and closes every subscription, so that open streams end before the server
+     * stops; clients reconnect to another instance with their last event ID.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        synchronized (idle) {
+            idle.notifyAll();
+        }
+        final Thread relay = this.relay;
+        if (relay != null) {
+            relay.join(SHUTDOWN_MILLIS);
+        }
+        for (final Subscriber subscriber : subscribers) {
+            subscriber.close();
+        }
+        if (sender instanceof ExecutorService executor) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Reads one batch from the outbox, and any missing IDs that are due for another look, and
+     * hands the events to the subscribers. Returns the number of events relayed.
+     */
+    int relay() {
+        initialize();
+        final List<StudentChangeEvent> events = eventLog.findAfter(relayedEventId, batchSize);
+        final List<StudentChangeEvent> late = recheckGaps();
+        synchronized (publishLock) {
+            for (final StudentChangeEvent event : late) {
+                publish(event, true);
+            }
+            for (final StudentChangeEvent event : events) {
+                if (event.getEventId() > relayedEventId + 1) {
+                    rememberGap(relayedEventId + 1, event.getEventId() - 1);
+                }
+                relayedEventId = event.getEventId();
+                publish(event, false);
+            }
+        }
+        final int relayed = late.size() + events.size();
+        relayedEvents.increment(relayed);
+        return relayed;
+    }
+
+    private void publish(final StudentChangeEvent event, final boolean late) {
+        for (final Subscriber subscriber : subscribers) {
+            subscriber.offer(event, late);
+        }
+    }
+
+    private void rememberGap(final long first, final long last) {
+        final long now = System.nanoTime();
+        if (gaps.isEmpty()) {
+            nextGapRecheckNanos = now;
+        }
+        final long deadline = now + gapTimeoutNanos;
+        final long tracked = Math.min(last - first + 1, MAX_GAPS - gaps.size());
+        for (long id = first; id < first + tracked; id++) {
+            gaps.put(id, deadline);
+        }
+        if (first + tracked <= last) {
+            skip(last - first - tracked + 1, first + tracked, last);
+        }
+    }
+
+    /**
+     * Reads the remembered missing IDs again, on the next poll and then at most once per second,
+     * and gives up on those
+     * whose {@code gap-timeout} has passed. Returns the events that have committed since.
+     */
+    private List<StudentChangeEvent> recheckGaps() {
+        final long now = System.nanoTime();
+        if (gaps.isEmpty() || now - nextGapRecheckNanos < 0) {
+            return List.of();
+        }
+        nextGapRecheckNanos = now + gapRecheckNanos;
+        final List<StudentChangeEvent> late = eventLog.findByIds(new ArrayList<>(gaps.keySet()));
+        late.forEach(event -> gaps.remove(event.getEventId()));
+        long expired = 0;
+        long first = -1;
+        long last = -1;
+        for (final Iterator<Map.Entry<Long, Long>> it = gaps.entrySet().iterator(); it.hasNext(); ) {
+            final Map.Entry<Long, Long> gap = it.next();
+            if (now - gap.getValue() >= 0) {
+                first = expired == 0 ? gap.getKey() : first;
+                last = gap.getKey();
+                expired++;
+                it.remove();
+            }
+        }
+        if (expired > 0) {
+            skip(expired, first, last);
+        }
+        return late;
+    }
+
+    private void skip(final long count, final long first, final long last) {
+        skippedEvents.increment(count);
+        logger.warn("Gave up on {} missing student outbox IDs between {} and {}; events committed under them "
+                + "from now on are not relayed", count, first, last);
+    }
+
+    private void relayLoop() {
+        boolean behind = false;
+        while (running) {
+            try {
+                if (!behind) {
+                    synchronized (idle) {
+                        idle.wait(pollMillis);
+                    }
+                    if (!running) {
+                        return;
+                    }
+                }
+                behind = relay() >= batchSize;
+                if (System.nanoTime() - lastPruneNanos >= PRUNE_INTERVAL_NANOS) {
+                    lastPruneNanos = System.nanoTime();
+                    eventLog.deleteOlderThan(Instant.now().minus(retention));
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                logger.warn("Student event relay failed; retrying in {} ms", pollMillis, ex);
+                behind = false;
+            }
+        }
+    }
+
+    private static ExecutorService senderPool() {
+        return Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "student-event-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private record Delivery(StudentChangeEvent event, boolean late) {
+    }
+
+    private final class Subscriber implements Subscription {
+
+        private final Listener listener;
+        private final BlockingQueue<Delivery> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        // Only touched by the thread holding draining, which publishes it to the next one.
+        private long lastEventId;
+        private volatile boolean resetPending;
+        private volatile boolean closed;
+
+        Subscriber(final Listener listener, final long lastEventId) {
+            this.listener = listener;
+            this.buffer = new ArrayBlockingQueue<>(subscriberBuffer);
+            this.lastEventId = lastEventId;
+        }
+
+        void offer(final StudentChangeEvent event, final boolean late) {
+            if (closed) {
+                return;
+            }
+            if (!buffer.offer(new Delivery(event, late))) {
+                overflowedSubscribers.increment();
+                close();
+                return;
+            }
+            schedule();
+        }
+
+        void schedule() {
+            if (!closed && (resetPending || !buffer.isEmpty()) && draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                if (resetPending) {
+                    resetPending = false;
+                    listener.onReset();
+                }
+                Delivery delivery;
+                while (!closed && (delivery = buffer.poll()) != null) {
+                    // A subscriber resuming from an ID this instance has not relayed yet skips what it has seen.
+                    // A late event is below that ID anyway; sending it twice beats losing it.
+                    final StudentChangeEvent event = delivery.event();
+                    if (delivery.late() || event.getEventId() > lastEventId) {
+                        listener.onEvent(event);
+                        lastEventId = Math.max(lastEventId, event.getEventId());
+                    }
+                }
+            } catch (RuntimeException ex) {
+                logger.debug("Student event subscriber failed; unsubscribing", ex);
+                cancel();
+            } finally {
+                draining.set(false);
+            }
+            schedule();
+        }
+
+        void close() {
+            cancel();
+            try {
+                listener.onClose();
+            } catch (RuntimeException ex) {
+                logger.debug("Could not close student event subscriber", ex);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            closed = true;
+            subscribers.remove(this);
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.example.course_api.application.service;
+
+import com.example.course_api.application.port.input.StudentIngestionUseCase;
+import com.example.course_api.application.port.input.StudentUseCase;
+import com.example.course_api.domain.exception.DuplicateEmailException;
+import com.example.course_api.domain.exception.IngestionQueueFullException;
+import com.example.course_api.domain.model.Student;
+import com.example.course_api.domain.model.StudentIngestion;
+import com.example.course_api.domain.model.StudentUpsertResult;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Write-behind creation of students.
+ *
+ * <p>{@link #submitStudent(Student)} reserves the email in memory, queues the student and returns
+ * at once. A single writer thread drains the queue in batches of up to {@code batch-size} and
+ * writes each batch through {@link StudentUseCase#upsertStudents(List)}, i.e. one transaction,
+ * one email lookup and one batched INSERT per batch. If a batch fails as a whole, its students are
+ * retried one at a time so that one bad row does not fail the others.
+ *
+ * <p>Guarantees:
+ * <ul>
+ *   <li>Durability: none until a student's status is {@code CREATED}. Queued students live only in
+ *   this JVM's memory. A graceful shutdown stops accepting and flushes the queue; a crash or kill
+ *   loses queued students together with their statuses.</li>
+ *   <li>Ordering: students are written in the order they were accepted by this instance, so their
+ *   IDs increase in that order. There is no ordering across instances, or relative to synchronous
+ *   creates.</li>
+ *   <li>Uniqueness: an email can be queued only once at a time on this instance. The unique
+ *   constraint on {@code email_address} still decides, and a student whose email is taken by the
+ *   time its batch is written ends as {@code DUPLICATE}.</li>
+ * </ul>
+ * Statuses of finished students are kept for the last {@code status-retention} students.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "app.students.ingestion.enabled", havingValue = "true", matchIfMissing = true)
+public class StudentIngestionService implements StudentIngestionUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentIngestionService.class);
+    private static final long POLL_MILLIS = 100;
+    private static final long SHUTDOWN_MILLIS = 30_000;
+
+    private final StudentUseCase studentUseCase;
+    private final MessageSource messageSource;
+    private final BlockingQueue<Pending> queue;
+    private final int batchSize;
+    private final int statusRetention;
+    private final Set<String> reservedEmails = ConcurrentHashMap.newKeySet();
+    private final Map<String, StudentIngestion> ingestions = new ConcurrentHashMap<>();
+    private final Queue<String> finished = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger finishedCount = new AtomicInteger();
+    private final Thread writer;
+    // Submits hold the read lock from the accepting check to the offer; shutdown takes the write lock
+    // to stop accepting, so nothing is queued after the final drain.
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+
+    private volatile boolean accepting = true;
+
+    @Autowired
+    public StudentIngestionService(StudentUseCase studentUseCase, MessageSource messageSource,
+                                   @Value("${app.students.ingestion.queue-capacity:10000}") int queueCapacity,
+                                   @Value("${app.students.ingestion.batch-size:500}") int batchSize,
+                                   @Value("${app.students.ingestion.status-retention:100000}") int statusRetention) {
+        this(studentUseCase, messageSource, queueCapacity, batchSize, statusRetention, true);
+    }
+
+    StudentIngestionService(StudentUseCase studentUseCase, MessageSource messageSource, int queueCapacity,
+                            int batchSize, int statusRetention, boolean startWriter) {
+        this.studentUseCase = studentUseCase;
+        this.messageSource = messageSource;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.statusRetention = statusRetention;
+        this.writer = startWriter ? new Thread(this::writeLoop, "student-ingestion-writer") : null;
+        if (writer != null) {
+            writer.setDaemon(true);
+            writer.start();
+        }
+    }
+
+    @Override
+    public StudentIngestion submitStudent(final Student student) {
+        acceptLock.readLock().lock();
+        try {
+            return enqueue(student);
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+    }
+
+    private StudentIngestion enqueue(final Student student) {
+        if (!accepting) {
+            throw new IngestionQueueFullException(getLocalizedMessage("Ingestion.queue.full"));
+        }
+        final String email = reservationKey(student.getEmail());
+        if (!reservedEmails.add(email)) {
+            throw new DuplicateEmailException(student.getEmail(), getLocalizedMessage("Email.student.unique"));
+        }
+        final StudentIngestion queued = new StudentIngestion(
+                UUID.randomUUID().toString(), StudentIngestion.Status.QUEUED, student, null);
+        ingestions.put(queued.getTrackingId(), queued);
+        if (!queue.offer(new Pending(queued, email))) {
+            ingestions.remove(queued.getTrackingId());
+            reservedEmails.remove(email);
+            throw new IngestionQueueFullException(getLocalizedMessage("Ingestion.queue.full"));
+        }
+        return queued;
+    }
+
+    @Override
+    public Optional<StudentIngestion> getIngestion(final String trackingId) {
+        return Optional.ofNullable(ingestions.get(trackingId));
+    }
+
+    /**
+     * Stops accepting students and writes everything that was already accepted.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        acceptLock.writeLock().lock();
+        try {
+            accepting = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+        if (writer != null) {
+            // Not interrupted: the writer finishes its current batch and exits within one poll.
+            writer.join(SHUTDOWN_MILLIS);
+        }
+        while (flush() > 0) {
+            // keep draining until the queue is empty
+        }
+    }
+
+    /**
+     * Writes up to one batch from the queue without waiting. Returns the number of students written.
+     */
+    int flush() {
+        final List<Pending> batch = new ArrayList<>(Math.min(batchSize, queue.size()));
+        queue.drainTo(batch, batchSize);
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+        return batch.size();
+    }
+
+    private void writeLoop() {
+        final List<Pending> batch = new ArrayList<>(batchSize);
+        while (accepting) {
+            try {
+                final Pending head = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (head == null) {
+                    continue;
+                }
+                batch.add(head);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                logger.error("Student ingestion writer failed on a batch of {}", batch.size(), ex);
+                for (final Pending pending : batch) {
+                    // A finished student's status may already have been dropped under status-retention.
+                    final StudentIngestion current = ingestions.get(pending.ingestion().getTrackingId());
+                    if (current != null && current.getStatus() == StudentIngestion.Status.QUEUED) {
+                        finish(pending, StudentIngestion.Status.FAILED, pending.ingestion().getStudent(), ex.getMessage());
+                    }
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(final List<Pending> batch) {
+        final List<Student> students = new ArrayList<>(batch.size());
+        for (final Pending pending : batch) {
+            students.add(pending.ingestion().getStudent());
+        }
+        final List<StudentUpsertResult> results;
+        try {
+            results = studentUseCase.upsertStudents(students);
+        } catch (RuntimeException ex) {
+            logger.warn("Batch of {} queued students failed; writing them one at a time", batch.size(), ex);
+            batch.forEach(this::writeOne);
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            final StudentUpsertResult result = results.get(i);
+            if (result.getStatus() == StudentUpsertResult.Status.CREATED) {
+                finish(batch.get(i), StudentIngestion.Status.CREATED, result.getStudent(), null);
+            } else {
+                finish(batch.get(i), StudentIngestion.Status.DUPLICATE, result.getStudent(),
+                        getLocalizedMessage("Email.student.unique"));
+            }
+        }
+    }
+
+    private void writeOne(final Pending pending) {
+        final Student student = pending.ingestion().getStudent();
+        try {
+            finish(pending, StudentIngestion.Status.CREATED, studentUseCase.createStudent(student), null);
+        } catch (DuplicateEmailException ex) {
+            finish(pending, StudentIngestion.Status.DUPLICATE, student, ex.getMessage());
+        } catch (RuntimeException ex) {
+            logger.error("Could not create queued student {}", pending.ingestion().getTrackingId(), ex);
+            finish(pending, StudentIngestion.Status.FAILED, student, ex.getMessage());
+        }
+    }
+
+    private void finish(final Pending pending, final StudentIngestion.Status status, final Student student,
+                        final String message) {
+        final String trackingId = pending.ingestion().getTrackingId();
+        ingestions.put(trackingId, pending.ingestion().withOutcome(status, student, message));
+        reservedEmails.remove(pending.reservationKey());
+        finished.add(trackingId);
+        if (finishedCount.incrementAndGet() > statusRetention) {
+            final String expired = finished.poll();
+            if (expired != null) {
+                finishedCount.decrementAndGet();
+                ingestions.remove(expired);
+            }
+        }
+    }
+
+    // email_address compares case-insensitively under MySQL's default collation.
+    private static String reservationKey(final String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private String getLocalizedMessage(final String code) {
+        return messageSource.getMessage(code, null, LocaleContextHolder.getLocale());
+    }
+
+    private record Pending(StudentIngestion ingestion, String reservationKey) {
+    }
+}
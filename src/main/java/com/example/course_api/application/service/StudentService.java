@@ -5,19 +5,44 @@ import com.example.course_api.application.port.output.StudentRepositoryPort;
 import com.example.course_api.domain.exception.DuplicateEmailException;
 import com.example.course_api.domain.exception.StudentNotFoundException;
 import com.example.course_api.domain.model.Student;
+import com.example.course_api.domain.model.StudentCollectionVersion;
+import com.example.course_api.domain.model.StudentField;
+import com.example.course_api.domain.model.StudentPage;
+import com.example.course_api.domain.model.StudentSearchCriteria;
+import com.example.course_api.domain.model.StudentSearchResult;
+import com.example.course_api.domain.model.StudentUpsertResult;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
 
 @Primary
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class StudentService implements StudentUseCase {
 
+    static final int MAX_PAGE_SIZE = 500;
+    static final int MAX_SUGGESTIONS = 25;
+
+    private static final Set<StudentField> ALL_FIELDS = EnumSet.allOf(StudentField.class);
+
     private final StudentRepositoryPort studentRepositoryPort;
     private final MessageSource messageSource;
 
@@ -28,60 +53,205 @@ public class StudentService implements StudentUseCase {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Student> getAllStudents() {
         return studentRepositoryPort.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Student> getAllStudents(final Set<StudentField> fields) {
+        if (fields.containsAll(ALL_FIELDS)) {
+            return studentRepositoryPort.findAll();
+        }
+        return studentRepositoryPort.findAll(fields);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StudentPage getStudentsPage(final Long afterId, final int limit) {
+        return page(limit, fetchSize -> studentRepositoryPort.findPageAfter(afterId, fetchSize));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StudentPage getStudentsPage(final Long afterId, final int limit, final Set<StudentField> fields) {
+        if (fields.containsAll(ALL_FIELDS)) {
+            return getStudentsPage(afterId, limit);
+        }
+        // The next cursor is the last student ID of the page, so it is always read.
+        final Set<StudentField> selected = EnumSet.of(StudentField.STUDENT_ID);
+        selected.addAll(fields);
+        return page(limit, fetchSize -> studentRepositoryPort.findPageAfter(afterId, fetchSize, selected));
+    }
+
+    private StudentPage page(final int limit, final IntFunction<List<Student>> fetch) {
+        final int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        final List<Student> fetched = fetch.apply(pageSize + 1);
+        if (fetched.size() <= pageSize) {
+            return new StudentPage(fetched, null);
+        }
+        final List<Student> page = fetched.subList(0, pageSize);
+        return new StudentPage(page, page.get(pageSize - 1).getStudentId());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StudentSearchResult searchStudents(final StudentSearchCriteria criteria) {
+        return studentRepositoryPort.search(criteria.withLimit(Math.max(1, Math.min(criteria.getLimit(), MAX_PAGE_SIZE))));
+    }
+
+    // No transaction: answered from the in-memory index; only the start-up fallback search reads the database.
+    @Override
+    public List<Student> suggestStudents(final String query, final int limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return studentRepositoryPort.suggest(query, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StudentCollectionVersion getStudentsVersion() {
+        return studentRepositoryPort.findCollectionVersion();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportStudents(final Consumer<Student> consumer) {
+        studentRepositoryPort.streamAll(consumer);
+    }
+
+    // No transaction: usually a cache hit. On a miss the adapter opens a read-only one around the query,
+    // after concurrent lookups of the same ID have been coalesced.
     @Override
     public Optional<Student> getStudentById(final Long id) {
         return studentRepositoryPort.findById(id);
     }
 
     @Override
+    @Transactional
     public Student createStudent(final Student student) {
-        validateEmailNotExists(student.getEmail());
-        return studentRepositoryPort.save(student);
+        try {
+            return studentRepositoryPort.insert(student);
+        } catch (DuplicateEmailException ex) {
+            throw createDuplicateEmailException(student.getEmail());
+        }
     }
 
     @Override
+    @Transactional
     public Student updateStudent(final Long id, final Student student) {
-        final Student existing = findStudentById(id);
-        
-        if (isEmailChanged(existing, student)) {
-            validateEmailNotExists(student.getEmail());
+        final Student changes = new Student(id, student.getFirstName(), student.getLastName(), student.getEmail());
+        final Optional<Student> updated;
+        try {
+            updated = studentRepositoryPort.update(changes);
+        } catch (DuplicateEmailException ex) {
+            throw createDuplicateEmailException(student.getEmail());
+        }
+        return updated.orElseThrow(this::createStudentNotFoundException);
+    }
+
+    @Override
+    @Transactional
+    public List<StudentUpsertResult> upsertStudents(final List<Student> students) {
+        final Map<String, Long> owners = studentRepositoryPort.findIdsByEmails(
+                students.stream().map(Student::getEmail).collect(Collectors.toSet()));
+        final StudentUpsertResult[] results = new StudentUpsertResult[students.size()];
+        final Set<String> claimedEmails = new HashSet<>();
+        final List<Integer> insertSlots = new ArrayList<>();
+        final List<Integer> updateSlots = new ArrayList<>();
+
+        for (int slot = 0; slot < students.size(); slot++) {
+            final Student student = students.get(slot);
+            if (isDuplicateInBatch(student, owners, claimedEmails)) {
+                results[slot] = new StudentUpsertResult(student, StudentUpsertResult.Status.DUPLICATE);
+            } else if (student.getStudentId() == null) {
+                insertSlots.add(slot);
+            } else {
+                updateSlots.add(slot);
+            }
         }
 
-        existing.update(student.getFirstName(), student.getLastName(), student.getEmail());
-        return studentRepositoryPort.save(existing);
+        // An email taken after findIdsByEmails (by a concurrent write) fails the whole batch; the
+        // adapter undoes it and the batch is retried row by row, so only that item is a DUPLICATE.
+        try {
+            final Map<Long, Student> updated = studentRepositoryPort.updateAll(pick(students, updateSlots)).stream()
+                    .collect(Collectors.toMap(Student::getStudentId, Function.identity(), (first, last) -> last));
+            for (final int slot : updateSlots) {
+                final Student student = students.get(slot);
+                final Student saved = updated.get(student.getStudentId());
+                results[slot] = saved != null
+                        ? new StudentUpsertResult(saved, StudentUpsertResult.Status.UPDATED)
+                        : new StudentUpsertResult(student, StudentUpsertResult.Status.NOT_FOUND);
+            }
+        } catch (DuplicateEmailException ex) {
+            updateSlots.forEach(slot -> results[slot] = updateOne(students.get(slot)));
+        }
+
+        try {
+            final List<Student> created = studentRepositoryPort.insertAll(pick(students, insertSlots));
+            for (int i = 0; i < insertSlots.size(); i++) {
+                results[insertSlots.get(i)] = new StudentUpsertResult(created.get(i), StudentUpsertResult.Status.CREATED);
+            }
+        } catch (DuplicateEmailException ex) {
+            insertSlots.forEach(slot -> results[slot] = insertOne(students.get(slot)));
+        }
+        return Arrays.asList(results);
     }
 
     @Override
+    @Transactional
     public void deleteStudent(final Long id) {
-        findStudentById(id);
-        studentRepositoryPort.deleteById(id);
-    }
-    
-    private void validateEmailNotExists(final String email) {
-        if (studentRepositoryPort.existsByEmail(email)) {
-            final String message = getLocalizedMessage("Email.student.unique");
-            throw new DuplicateEmailException(email, message);
+        if (!studentRepositoryPort.deleteById(id)) {
+            throw createStudentNotFoundException();
         }
     }
+
+    @Override
+    @Transactional
+    public int deleteStudents(final Collection<Long> ids) {
+        return studentRepositoryPort.deleteAllById(ids);
+    }
     
-    private Student findStudentById(final Long id) {
-        return studentRepositoryPort.findById(id)
-                .orElseThrow(this::createStudentNotFoundException);
+    private DuplicateEmailException createDuplicateEmailException(final String email) {
+        final String message = getLocalizedMessage("Email.student.unique");
+        return new DuplicateEmailException(email, message);
     }
     
+    private boolean isDuplicateInBatch(final Student student, final Map<String, Long> owners, final Set<String> claimedEmails) {
+        final Long owner = owners.get(student.getEmail());
+        final boolean ownedByAnother = owner != null && !owner.equals(student.getStudentId());
+        return ownedByAnother || !claimedEmails.add(student.getEmail());
+    }
+
+    private StudentUpsertResult updateOne(final Student student) {
+        try {
+            return studentRepositoryPort.update(student)
+                    .map(saved -> new StudentUpsertResult(saved, StudentUpsertResult.Status.UPDATED))
+                    .orElseGet(() -> new StudentUpsertResult(student, StudentUpsertResult.Status.NOT_FOUND));
+        } catch (DuplicateEmailException ex) {
+            return new StudentUpsertResult(student, StudentUpsertResult.Status.DUPLICATE);
+        }
+    }
+
+    private StudentUpsertResult insertOne(final Student student) {
+        try {
+            return new StudentUpsertResult(studentRepositoryPort.insert(student), StudentUpsertResult.Status.CREATED);
+        } catch (DuplicateEmailException ex) {
+            return new StudentUpsertResult(student, StudentUpsertResult.Status.DUPLICATE);
+        }
+    }
+
+    private List<Student> pick(final List<Student> students, final List<Integer> slots) {
+        return slots.stream().map(students::get).collect(Collectors.toList());
+    }
+
     private StudentNotFoundException createStudentNotFoundException() {
         final String message = getLocalizedMessage("Student.notfound");
         return new StudentNotFoundException(message);
     }
     
-    private boolean isEmailChanged(final Student existing, final Student updated) {
-        return !existing.getEmail().equals(updated.getEmail());
-    }
-    
     private String getLocalizedMessage(final String code) {
         return messageSource.getMessage(code, null, LocaleContextHolder.getLocale());
     }
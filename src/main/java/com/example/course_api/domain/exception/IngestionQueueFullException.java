@@ -0,0 +1,7 @@
+package com.example.course_api.domain.exception;
+
+public class IngestionQueueFullException extends RuntimeException {
+    public IngestionQueueFullException(String message) {
+        super(message);
+    }
+}
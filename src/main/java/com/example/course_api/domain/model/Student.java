@@ -7,10 +7,16 @@ public class Student {
     private String firstName;
     private String lastName;
     private String email;
+    private Long version;
 
     public Student() {
     }
 
+    public Student(Long studentId, String firstName, String lastName, String email, Long version) {
+        this(studentId, firstName, lastName, email);
+        this.version = version;
+    }
+
     public Student(Long studentId, String firstName, String lastName, String email) {
         this.studentId = studentId;
         this.firstName = firstName;
@@ -26,6 +32,20 @@ public class Student {
         validate();
     }
 
+    /**
+     * Reconstitutes a student that was already validated when it was written, e.g. a row loaded
+     * from the database, without running the validation again.
+     */
+    public static Student rehydrate(Long studentId, String firstName, String lastName, String email, Long version) {
+        Student student = new Student();
+        student.studentId = studentId;
+        student.firstName = firstName;
+        student.lastName = lastName;
+        student.email = email;
+        student.version = version;
+        return student;
+    }
+
     private void validate() {
         validateFirstName();
         validateLastName();
@@ -53,12 +73,47 @@ public class Student {
         }
     }
 
+    // Same rule as value.trim().isEmpty() (every char <= ' '), without the trimmed copy.
     private boolean isNullOrEmpty(String value) {
-        return value == null || value.trim().isEmpty();
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Allocation-free equivalent of {@code ^[A-Za-z0-9+_.-]+@(.+)$}: a non-empty local part of
+     * letters, digits and {@code + _ . -}, then {@code @}, then at least one character that is not
+     * a line terminator.
+     */
+    static boolean isValidEmailFormat(String email) {
+        int at = 0;
+        while (at < email.length() && isLocalPartChar(email.charAt(at))) {
+            at++;
+        }
+        if (at == 0 || at >= email.length() - 1 || email.charAt(at) != '@') {
+            return false;
+        }
+        for (int i = at + 1; i < email.length(); i++) {
+            if (isLineTerminator(email.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLocalPartChar(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                || c == '+' || c == '_' || c == '.' || c == '-';
     }
 
-    private boolean isValidEmailFormat(String email) {
-        return email.matches("^[A-Za-z0-9+_.-]+@(.+)$");
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
     }
 
     public void update(String firstName, String lastName, String email) {
@@ -103,6 +158,14 @@ public class Student {
         validate();
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -124,6 +187,7 @@ public class Student {
                 ", firstName='" + firstName + '\'' +
                 ", lastName='" + lastName + '\'' +
                 ", email='" + email + '\'' +
+                ", version=" + version +
                 '}';
     }
 }
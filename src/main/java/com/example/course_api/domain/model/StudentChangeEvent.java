@@ -0,0 +1,37 @@
+package com.example.course_api.domain.model;
+
+/**
+ * One committed change to a student, as recorded in the outbox. Event IDs increase in commit
+ * order. {@link #getStudent()} is the student as written; for {@link Type#DELETED} only its ID and
+ * the version of the delete are set.
+ */
+public class StudentChangeEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final long eventId;
+    private final Type type;
+    private final Student student;
+
+    public StudentChangeEvent(long eventId, Type type, Student student) {
+        this.eventId = eventId;
+        this.type = type;
+        this.student = student;
+    }
+
+    public long getEventId() {
+        return eventId;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.course_api.domain.model;
+
+/**
+ * Cheap validator for the whole student collection: the row count and the sum of every version
+ * stamp (modulo 2<sup>64</sup>). Any single insert, update or delete changes one of them, whatever
+ * order the stamps were issued in.
+ */
+public class StudentCollectionVersion {
+    private final long versionSum;
+    private final long count;
+
+    public StudentCollectionVersion(long versionSum, long count) {
+        this.versionSum = versionSum;
+        this.count = count;
+    }
+
+    public long getVersionSum() {
+        return versionSum;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
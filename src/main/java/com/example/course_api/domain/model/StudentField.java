@@ -0,0 +1,23 @@
+package com.example.course_api.domain.model;
+
+/**
+ * A readable attribute of a {@link Student}, used to ask for a subset of them (a sparse
+ * fieldset). {@link #getName()} is the name used in the API and in the persistence model.
+ */
+public enum StudentField {
+    STUDENT_ID("studentId"),
+    FIRST_NAME("firstName"),
+    LAST_NAME("lastName"),
+    EMAIL("email"),
+    VERSION("version");
+
+    private final String name;
+
+    StudentField(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.course_api.domain.model;
+
+/**
+ * State of a student accepted for asynchronous creation, looked up by its tracking ID.
+ * {@link #getStudent()} carries the generated student ID and version once the status is
+ * {@link Status#CREATED}; {@link #getMessage()} explains {@link Status#FAILED}.
+ */
+public class StudentIngestion {
+
+    public enum Status {
+        QUEUED,
+        CREATED,
+        DUPLICATE,
+        FAILED
+    }
+
+    private final String trackingId;
+    private final Status status;
+    private final Student student;
+    private final String message;
+
+    public StudentIngestion(String trackingId, Status status, Student student, String message) {
+        this.trackingId = trackingId;
+        this.status = status;
+        this.student = student;
+        this.message = message;
+    }
+
+    public StudentIngestion withOutcome(Status status, Student student, String message) {
+        return new StudentIngestion(trackingId, status, student, message);
+    }
+
+    public String getTrackingId() {
+        return trackingId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.course_api.domain.model;
+
+import java.util.List;
+
+public class StudentPage {
+    private final List<Student> students;
+    private final Long nextAfterId;
+
+    public StudentPage(List<Student> students, Long nextAfterId) {
+        this.students = students;
+        this.nextAfterId = nextAfterId;
+    }
+
+    public List<Student> getStudents() {
+        return students;
+    }
+
+    public Long getNextAfterId() {
+        return nextAfterId;
+    }
+
+    public boolean hasNext() {
+        return nextAfterId != null;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.course_api.domain.model;
+
+/**
+ * Prefix filters, ordering and limit of a student search. A {@code null} prefix means the field
+ * is not filtered.
+ */
+public class StudentSearchCriteria {
+
+    public enum SortField {
+        LAST_NAME,
+        FIRST_NAME,
+        STUDENT_ID
+    }
+
+    private final String lastNamePrefix;
+    private final String firstNamePrefix;
+    private final String emailDomainPrefix;
+    private final SortField sortField;
+    private final boolean descending;
+    private final int limit;
+
+    public StudentSearchCriteria(String lastNamePrefix, String firstNamePrefix, String emailDomainPrefix,
+                                 SortField sortField, boolean descending, int limit) {
+        this.lastNamePrefix = blankToNull(lastNamePrefix);
+        this.firstNamePrefix = blankToNull(firstNamePrefix);
+        this.emailDomainPrefix = blankToNull(emailDomainPrefix);
+        this.sortField = sortField == null ? SortField.LAST_NAME : sortField;
+        this.descending = descending;
+        this.limit = limit;
+    }
+
+    public String getLastNamePrefix() {
+        return lastNamePrefix;
+    }
+
+    public String getFirstNamePrefix() {
+        return firstNamePrefix;
+    }
+
+    public String getEmailDomainPrefix() {
+        return emailDomainPrefix;
+    }
+
+    public SortField getSortField() {
+        return sortField;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public StudentSearchCriteria withLimit(int limit) {
+        return new StudentSearchCriteria(lastNamePrefix, firstNamePrefix, emailDomainPrefix, sortField, descending, limit);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.course_api.domain.model;
+
+import java.util.List;
+
+public class StudentSearchResult {
+    private final List<Student> students;
+    private final String indexHint;
+    private final boolean indexedHint;
+
+    public StudentSearchResult(List<Student> students, String indexHint, boolean indexedHint) {
+        this.students = students;
+        this.indexHint = indexHint;
+        this.indexedHint = indexedHint;
+    }
+
+    public List<Student> getStudents() {
+        return students;
+    }
+
+    /**
+     * Name of the index meant to serve the filter, or the ordering when nothing is filtered.
+     * Derived from which criteria are set, not from the optimizer's actual plan, which may still
+     * choose a scan, for example when the prefix matches most of the table.
+     */
+    public String getIndexHint() {
+        return indexHint;
+    }
+
+    /**
+     * Whether {@link #getIndexHint()} can serve both the filter and the ordering, so the query
+     * would read at most {@code limit} index entries instead of sorting every match. A hint like
+     * the index name, not a report of what the optimizer did.
+     */
+    public boolean isIndexedHint() {
+        return indexedHint;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.course_api.domain.model;
+
+public class StudentUpsertResult {
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        DUPLICATE,
+        NOT_FOUND
+    }
+
+    private final Student student;
+    private final Status status;
+
+    public StudentUpsertResult(Student student, Status status) {
+        this.student = student;
+        this.status = status;
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+}
@@ -2,40 +2,154 @@ package com.example.course_api.infrastructure.adapter.input.rest;
 
 import com.example.course_api.application.port.input.StudentUseCase;
 import com.example.course_api.domain.model.Student;
+import com.example.course_api.domain.model.StudentField;
+import com.example.course_api.domain.model.StudentPage;
+import com.example.course_api.domain.model.StudentSearchResult;
+import com.example.course_api.domain.model.StudentUpsertResult;
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentBatchItemRequest;
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentBatchItemResponse;
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentBatchRequest;
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentPageResponse;
 import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentRequest;
 import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentResponse;
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentSearchResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Primary;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Primary
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping(path = "api/v1/students")
 public class StudentController {
 
+    private static final int EXPORT_FLUSH_INTERVAL = 1_000;
+    private static final int MAX_BULK_DELETE = 1_000;
+
     private final StudentUseCase studentUseCase;
+    private final ObjectWriter exportWriter;
 
-    public StudentController(StudentUseCase studentUseCase) {
+    public StudentController(StudentUseCase studentUseCase, ObjectMapper objectMapper) {
         this.studentUseCase = studentUseCase;
+        this.exportWriter = objectMapper.writerFor(StudentResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     @GetMapping
-    public ResponseEntity<List<StudentResponse>> getAll() {
-        List<StudentResponse> students = studentUseCase.getAllStudents().stream()
-                .map(this::toResponse)
+    public ResponseEntity<List<StudentResponse>> getAll(
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
+        Set<StudentField> selected = StudentFieldsParser.parse(fields);
+        String etag = StudentETags.of(studentUseCase.getStudentsVersion(), selected);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        List<Student> found = selected == null ? studentUseCase.getAllStudents() : studentUseCase.getAllStudents(selected);
+        List<StudentResponse> students = found.stream()
+                .map(student -> toResponse(student, selected))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok().eTag(etag).body(students);
+    }
+
+    @GetMapping(params = "limit")
+    public ResponseEntity<StudentPageResponse> getPage(
+            @RequestParam(required = false) String after,
+            @RequestParam int limit,
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
+        Long afterId = StudentCursorCodec.decode(after);
+        Set<StudentField> selected = StudentFieldsParser.parse(fields);
+        String etag = StudentETags.of(studentUseCase.getStudentsVersion(), selected);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        StudentPage page = selected == null
+                ? studentUseCase.getStudentsPage(afterId, limit)
+                : studentUseCase.getStudentsPage(afterId, limit, selected);
+        List<StudentResponse> students = page.getStudents().stream()
+                .map(student -> toResponse(student, selected))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok().eTag(etag)
+                .body(new StudentPageResponse(students, StudentCursorCodec.encode(page.getNextAfterId())));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<StudentSearchResponse> search(
+            @RequestParam(required = false) String lastName,
+            @RequestParam(required = false) String firstName,
+            @RequestParam(required = false) String emailDomain,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String fields) {
+        Set<StudentField> selected = StudentFieldsParser.parse(fields);
+        StudentSearchResult result = studentUseCase.searchStudents(
+                StudentSearchCriteriaParser.parse(lastName, firstName, emailDomain, sort, limit));
+        List<StudentResponse> students = result.getStudents().stream()
+                .map(student -> toResponse(student, selected))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(new StudentSearchResponse(students, result.getIndexHint(), result.isIndexedHint()));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<StudentResponse>> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String fields) {
+        Set<StudentField> selected = StudentFieldsParser.parse(fields);
+        List<StudentResponse> students = studentUseCase.suggestStudents(q, limit).stream()
+                .map(student -> toResponse(student, selected))
                 .collect(Collectors.toList());
         return ResponseEntity.ok(students);
     }
 
+    @GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void export(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        try (JsonGenerator generator = exportWriter.getFactory().createGenerator(response.getOutputStream())) {
+            generator.setRootValueSeparator(null);
+            final int[] written = {0};
+            studentUseCase.exportStudents(student -> {
+                writeLine(generator, toResponse(student));
+                if (++written[0] == 1 || written[0] % EXPORT_FLUSH_INTERVAL == 0) {
+                    flush(generator);
+                }
+            });
+        }
+    }
+
     @GetMapping("/{studentId}")
-    public ResponseEntity<StudentResponse> getById(@PathVariable Long studentId) {
+    public ResponseEntity<StudentResponse> getById(
+            @PathVariable Long studentId,
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
+        Set<StudentField> selected = StudentFieldsParser.parse(fields);
         return studentUseCase.getStudentById(studentId)
-                .map(student -> ResponseEntity.ok(toResponse(student)))
+                .map(student -> {
+                    String etag = StudentETags.of(student, selected);
+                    if (request.checkNotModified(etag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<StudentResponse>build();
+                    }
+                    return ResponseEntity.ok().eTag(etag).body(toResponse(student, selected));
+                })
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -43,7 +157,7 @@ public class StudentController {
     public ResponseEntity<StudentResponse> createStudent(@Valid @RequestBody StudentRequest request) {
         Student student = new Student(request.getFirstName(), request.getLastName(), request.getEmail());
         Student created = studentUseCase.createStudent(student);
-        return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(created));
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(StudentETags.of(created)).body(toResponse(created));
     }
 
     @PutMapping("/{studentId}")
@@ -52,7 +166,18 @@ public class StudentController {
             @Valid @RequestBody StudentRequest request) {
         Student student = new Student(request.getFirstName(), request.getLastName(), request.getEmail());
         Student updated = studentUseCase.updateStudent(studentId, student);
-        return ResponseEntity.ok(toResponse(updated));
+        return ResponseEntity.ok().eTag(StudentETags.of(updated)).body(toResponse(updated));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<StudentBatchItemResponse>> upsertStudents(@Valid @RequestBody StudentBatchRequest request) {
+        List<Student> students = request.getStudents().stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+        List<StudentBatchItemResponse> results = studentUseCase.upsertStudents(students).stream()
+                .map(this::toBatchItemResponse)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(results);
     }
 
     @DeleteMapping("/{studentId}")
@@ -61,12 +186,59 @@ public class StudentController {
         return ResponseEntity.noContent().build();
     }
 
-    private StudentResponse toResponse(Student student) {
+    @DeleteMapping(params = "ids")
+    public ResponseEntity<Map<String, Integer>> deleteStudents(
+            @RequestParam @NotEmpty @Size(max = MAX_BULK_DELETE) Set<Long> ids) {
+        int deleted = studentUseCase.deleteStudents(ids);
+        return ResponseEntity.ok(Map.of("deleted", deleted));
+    }
+
+    private void writeLine(JsonGenerator generator, StudentResponse response) {
+        try {
+            exportWriter.writeValue(generator, response);
+            generator.writeRaw('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void flush(JsonGenerator generator) {
+        try {
+            generator.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private Student toDomain(StudentBatchItemRequest item) {
+        return new Student(item.getStudentId(), item.getFirstName(), item.getLastName(), item.getEmail());
+    }
+
+    private StudentBatchItemResponse toBatchItemResponse(StudentUpsertResult result) {
+        return new StudentBatchItemResponse(result.getStatus().name(), toResponse(result.getStudent()));
+    }
+
+    StudentResponse toResponse(Student student) {
         return new StudentResponse(
                 student.getStudentId(),
                 student.getFirstName(),
                 student.getLastName(),
-                student.getEmail()
+                student.getEmail(),
+                student.getVersion()
+        );
+    }
+
+    // A null fields set means every field.
+    StudentResponse toResponse(Student student, Set<StudentField> fields) {
+        if (fields == null) {
+            return toResponse(student);
+        }
+        return new StudentResponse(
+                fields.contains(StudentField.STUDENT_ID) ? student.getStudentId() : null,
+                fields.contains(StudentField.FIRST_NAME) ? student.getFirstName() : null,
+                fields.contains(StudentField.LAST_NAME) ? student.getLastName() : null,
+                fields.contains(StudentField.EMAIL) ? student.getEmail() : null,
+                fields.contains(StudentField.VERSION) ? student.getVersion() : null
         );
     }
 }
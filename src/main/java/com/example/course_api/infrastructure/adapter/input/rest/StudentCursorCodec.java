@@ -0,0 +1,37 @@
+package com.example.course_api.infrastructure.adapter.input.rest;
+
+import com.example.course_api.infrastructure.adapter.input.rest.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+final class StudentCursorCodec {
+
+    private static final String PREFIX = "s:";
+
+    private StudentCursorCodec() {
+    }
+
+    static String encode(final Long afterId) {
+        if (afterId == null) {
+            return null;
+        }
+        final byte[] raw = (PREFIX + afterId).getBytes(StandardCharsets.US_ASCII);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    static Long decode(final String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            if (!raw.startsWith(PREFIX)) {
+                throw new InvalidCursorException(cursor);
+            }
+            return Long.valueOf(raw.substring(PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.course_api.infrastructure.adapter.input.rest;
+
+import com.example.course_api.domain.model.Student;
+import com.example.course_api.domain.model.StudentCollectionVersion;
+import com.example.course_api.domain.model.StudentField;
+
+import java.util.Set;
+
+/**
+ * Weak validators: the same state is sent as JSON, CBOR or Smile, gzipped or not, so the tags
+ * promise equivalent representations rather than identical bytes. Tomcat also leaves any response
+ * with a strong {@code ETag} uncompressed. {@code If-None-Match} compares weakly either way.
+ */
+final class StudentETags {
+
+    private StudentETags() {
+    }
+
+    static String of(final Student student) {
+        return of(student, null);
+    }
+
+    static String of(final StudentCollectionVersion collectionVersion) {
+        return of(collectionVersion, null);
+    }
+
+    /**
+     * A sparse representation is a different representation of the same state, so the selected
+     * fields are part of its tag.
+     */
+    static String of(final Student student, final Set<StudentField> fields) {
+        final long version = student.getVersion() == null ? 0 : student.getVersion();
+        return "W/\"" + version + fieldsSuffix(fields) + "\"";
+    }
+
+    static String of(final StudentCollectionVersion collectionVersion, final Set<StudentField> fields) {
+        return "W/\"" + collectionVersion.getVersionSum() + "-" + collectionVersion.getCount() + fieldsSuffix(fields) + "\"";
+    }
+
+    private static String fieldsSuffix(final Set<StudentField> fields) {
+        if (fields == null) {
+            return "";
+        }
+        final StringBuilder suffix = new StringBuilder(";");
+        for (final StudentField field : fields) {
+            suffix.append(suffix.length() == 1 ? "" : ",").append(field.getName());
+        }
+        return suffix.toString();
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.course_api.infrastructure.adapter.input.rest;
+
+import com.example.course_api.application.port.input.StudentEventFeedUseCase;
+import com.example.course_api.domain.model.Student;
+import com.example.course_api.domain.model.StudentChangeEvent;
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentEventResponse;
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Change feed: {@code GET /api/v1/students/events} streams every committed create, update and
+ * delete as a Server-Sent Event whose {@code id} is the outbox event ID and whose {@code event} is
+ * {@code created}, {@code updated} or {@code deleted}. A client reconnecting with
+ * {@code Last-Event-ID} (browsers' {@code EventSource} sends it) receives what it missed; a
+ * {@code reset} event tells it that this is no longer possible and it has to reload the students.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "app.students.events.enabled", havingValue = "true", matchIfMissing = true)
+@RequestMapping(path = "api/v1/students")
+public class StudentEventController {
+
+    private final StudentEventFeedUseCase studentEventFeedUseCase;
+    private final long timeoutMillis;
+
+    public StudentEventController(StudentEventFeedUseCase studentEventFeedUseCase,
+                                  @Value("${app.students.events.timeout:30m}") Duration timeout) {
+        this.studentEventFeedUseCase = studentEventFeedUseCase;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        StudentEventFeedUseCase.Subscription subscription =
+                studentEventFeedUseCase.subscribe(parseEventId(lastEventId), new EmitterListener(emitter));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(ex -> subscription.cancel());
+        return emitter;
+    }
+
+    // An unparseable ID is treated as none: the client gets new changes only.
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            long eventId = Long.parseLong(lastEventId.trim());
+            return eventId < 0 ? null : eventId;
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private record EmitterListener(SseEmitter emitter) implements StudentEventFeedUseCase.Listener {
+
+        @Override
+        public void onEvent(StudentChangeEvent event) {
+            String type = event.getType().name().toLowerCase(Locale.ROOT);
+            send(SseEmitter.event()
+                    .id(Long.toString(event.getEventId()))
+                    .name(type)
+                    .data(new StudentEventResponse(event.getEventId(), type, toResponse(event.getStudent())),
+                            MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void onReset() {
+            send(SseEmitter.event().name("reset").data("{}", MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void onClose() {
+            emitter.complete();
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        private static StudentResponse toResponse(Student student) {
+            return new StudentResponse(
+                    student.getStudentId(),
+                    student.getFirstName(),
+                    student.getLastName(),
+                    student.getEmail(),
+                    student.getVersion()
+            );
+        }
+    }
+}
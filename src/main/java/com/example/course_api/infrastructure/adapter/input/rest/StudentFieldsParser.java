@@ -0,0 +1,38 @@
+package com.example.course_api.infrastructure.adapter.input.rest;
+
+import com.example.course_api.domain.model.StudentField;
+import com.example.course_api.infrastructure.adapter.input.rest.exception.InvalidFieldsException;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+final class StudentFieldsParser {
+
+    private StudentFieldsParser() {
+    }
+
+    /**
+     * Parses the {@code fields} query parameter, a comma-separated list of {@link StudentField}
+     * names such as {@code studentId,email}. Returns {@code null} when the parameter is absent,
+     * meaning every field.
+     */
+    static Set<StudentField> parse(final String fields) {
+        if (fields == null) {
+            return null;
+        }
+        final Set<StudentField> selected = EnumSet.noneOf(StudentField.class);
+        for (final String name : fields.split(",", -1)) {
+            selected.add(field(name.trim(), fields));
+        }
+        return selected;
+    }
+
+    private static StudentField field(final String name, final String fields) {
+        for (final StudentField field : StudentField.values()) {
+            if (field.getName().equals(name)) {
+                return field;
+            }
+        }
+        throw new InvalidFieldsException(fields);
+    }
+}
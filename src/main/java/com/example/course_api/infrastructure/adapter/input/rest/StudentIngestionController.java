@@ -0,0 +1,67 @@
+package com.example.course_api.infrastructure.adapter.input.rest;
+
+import com.example.course_api.application.port.input.StudentIngestionUseCase;
+import com.example.course_api.domain.model.Student;
+import com.example.course_api.domain.model.StudentIngestion;
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentIngestionResponse;
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentRequest;
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentResponse;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+
+/**
+ * Asynchronous creation: {@code POST /api/v1/students?async=true} answers 202 with a tracking ID
+ * as soon as the student is queued, and {@code GET /api/v1/students/ingestions/{trackingId}}
+ * reports whether it was created. A plain POST still creates synchronously in
+ * {@link StudentController}.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "app.students.ingestion.enabled", havingValue = "true", matchIfMissing = true)
+@RequestMapping(path = "api/v1/students")
+public class StudentIngestionController {
+
+    private final StudentIngestionUseCase studentIngestionUseCase;
+
+    public StudentIngestionController(StudentIngestionUseCase studentIngestionUseCase) {
+        this.studentIngestionUseCase = studentIngestionUseCase;
+    }
+
+    @PostMapping(params = "async=true")
+    public ResponseEntity<StudentIngestionResponse> submitStudent(@Valid @RequestBody StudentRequest request) {
+        Student student = new Student(request.getFirstName(), request.getLastName(), request.getEmail());
+        StudentIngestion queued = studentIngestionUseCase.submitStudent(student);
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/v1/students/ingestions/{trackingId}")
+                .buildAndExpand(queued.getTrackingId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(toResponse(queued));
+    }
+
+    @GetMapping("/ingestions/{trackingId}")
+    public ResponseEntity<StudentIngestionResponse> getIngestion(@PathVariable String trackingId) {
+        return studentIngestionUseCase.getIngestion(trackingId)
+                .map(ingestion -> ResponseEntity.status(HttpStatus.OK).body(toResponse(ingestion)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    private StudentIngestionResponse toResponse(StudentIngestion ingestion) {
+        Student student = ingestion.getStudent();
+        StudentResponse body = new StudentResponse(
+                student.getStudentId(),
+                student.getFirstName(),
+                student.getLastName(),
+                student.getEmail(),
+                student.getVersion()
+        );
+        return new StudentIngestionResponse(
+                ingestion.getTrackingId(), ingestion.getStatus().name(), body, ingestion.getMessage());
+    }
+}
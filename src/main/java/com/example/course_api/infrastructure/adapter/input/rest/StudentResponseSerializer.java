@@ -0,0 +1,60 @@
+package com.example.course_api.infrastructure.adapter.input.rest;
+
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * Writes a {@link StudentResponse} field by field, without the bean serializer's property
+ * introspection and per-property writer dispatch. Property names are {@link SerializedString}s,
+ * which cache their quoted UTF-8 bytes after the first use, so the generator copies the name
+ * bytes instead of encoding them for every element. Null fields are omitted, as
+ * {@code @JsonInclude(NON_NULL)} on the DTO does. Registered with Boot's {@code ObjectMapper},
+ * so it serves JSON, CBOR, Smile and the NDJSON export alike.
+ */
+@JsonComponent
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class StudentResponseSerializer extends StdSerializer<StudentResponse> {
+
+    private static final SerializedString STUDENT_ID = new SerializedString("studentId");
+    private static final SerializedString FIRST_NAME = new SerializedString("firstName");
+    private static final SerializedString LAST_NAME = new SerializedString("lastName");
+    private static final SerializedString EMAIL = new SerializedString("email");
+    private static final SerializedString VERSION = new SerializedString("version");
+
+    public StudentResponseSerializer() {
+        super(StudentResponse.class);
+    }
+
+    @Override
+    public void serialize(StudentResponse value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject(value);
+        writeNumber(generator, STUDENT_ID, value.getStudentId());
+        writeString(generator, FIRST_NAME, value.getFirstName());
+        writeString(generator, LAST_NAME, value.getLastName());
+        writeString(generator, EMAIL, value.getEmail());
+        writeNumber(generator, VERSION, value.getVersion());
+        generator.writeEndObject();
+    }
+
+    private static void writeNumber(JsonGenerator generator, SerializedString name, Long value) throws IOException {
+        if (value != null) {
+            generator.writeFieldName(name);
+            generator.writeNumber(value.longValue());
+        }
+    }
+
+    private static void writeString(JsonGenerator generator, SerializedString name, String value) throws IOException {
+        if (value != null) {
+            generator.writeFieldName(name);
+            generator.writeString(value);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.course_api.infrastructure.adapter.input.rest;
+
+import com.example.course_api.domain.model.StudentSearchCriteria;
+import com.example.course_api.domain.model.StudentSearchCriteria.SortField;
+import com.example.course_api.infrastructure.adapter.input.rest.exception.InvalidSortException;
+
+final class StudentSearchCriteriaParser {
+
+    private StudentSearchCriteriaParser() {
+    }
+
+    /**
+     * Builds search criteria from the query parameters. {@code sort} is {@code field[,asc|desc]},
+     * where field is {@code lastName}, {@code firstName} or {@code studentId}.
+     */
+    static StudentSearchCriteria parse(final String lastName, final String firstName, final String emailDomain,
+                                       final String sort, final int limit) {
+        final String[] parts = sort == null || sort.isBlank() ? new String[] {"lastName"} : sort.split(",", -1);
+        if (parts.length > 2) {
+            throw new InvalidSortException(sort);
+        }
+        return new StudentSearchCriteria(lastName, firstName, emailDomain,
+                sortField(parts[0].trim(), sort), descending(parts, sort), limit);
+    }
+
+    private static SortField sortField(final String field, final String sort) {
+        return switch (field) {
+            case "lastName" -> SortField.LAST_NAME;
+            case "firstName" -> SortField.FIRST_NAME;
+            case "studentId" -> SortField.STUDENT_ID;
+            default -> throw new InvalidSortException(sort);
+        };
+    }
+
+    private static boolean descending(final String[] parts, final String sort) {
+        if (parts.length == 1 || parts[1].trim().equalsIgnoreCase("asc")) {
+            return false;
+        }
+        if (parts[1].trim().equalsIgnoreCase("desc")) {
+            return true;
+        }
+        throw new InvalidSortException(sort);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.course_api.infrastructure.adapter.input.rest.dto;
+
+public class StudentBatchItemRequest extends StudentRequest {
+    private Long studentId;
+
+    public StudentBatchItemRequest() {
+    }
+
+    public StudentBatchItemRequest(Long studentId, String firstName, String lastName, String email) {
+        super(firstName, lastName, email);
+        this.studentId = studentId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.course_api.infrastructure.adapter.input.rest.dto;
+
+public class StudentBatchItemResponse {
+    private String status;
+    private StudentResponse student;
+
+    public StudentBatchItemResponse() {
+    }
+
+    public StudentBatchItemResponse(String status, StudentResponse student) {
+        this.status = status;
+        this.student = student;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public StudentResponse getStudent() {
+        return student;
+    }
+
+    public void setStudent(StudentResponse student) {
+        this.student = student;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.course_api.infrastructure.adapter.input.rest.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class StudentBatchRequest {
+    public static final int MAX_BATCH_SIZE = 1_000;
+
+    @NotEmpty(message = "At least one student is required")
+    @Size(max = MAX_BATCH_SIZE, message = "A batch may contain at most " + MAX_BATCH_SIZE + " students")
+    private List<@Valid StudentBatchItemRequest> students;
+
+    public StudentBatchRequest() {
+    }
+
+    public StudentBatchRequest(List<StudentBatchItemRequest> students) {
+        this.students = students;
+    }
+
+    public List<StudentBatchItemRequest> getStudents() {
+        return students;
+    }
+
+    public void setStudents(List<StudentBatchItemRequest> students) {
+        this.students = students;
+    }
+}
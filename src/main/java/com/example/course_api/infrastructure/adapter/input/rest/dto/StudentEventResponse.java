@@ -0,0 +1,43 @@
+package com.example.course_api.infrastructure.adapter.input.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StudentEventResponse {
+    private Long eventId;
+    private String type;
+    private StudentResponse student;
+
+    public StudentEventResponse() {
+    }
+
+    public StudentEventResponse(Long eventId, String type, StudentResponse student) {
+        this.eventId = eventId;
+        this.type = type;
+        this.student = student;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public StudentResponse getStudent() {
+        return student;
+    }
+
+    public void setStudent(StudentResponse student) {
+        this.student = student;
+    }
+}
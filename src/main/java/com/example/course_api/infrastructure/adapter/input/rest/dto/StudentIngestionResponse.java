@@ -0,0 +1,53 @@
+package com.example.course_api.infrastructure.adapter.input.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StudentIngestionResponse {
+    private String trackingId;
+    private String status;
+    private StudentResponse student;
+    private String message;
+
+    public StudentIngestionResponse() {
+    }
+
+    public StudentIngestionResponse(String trackingId, String status, StudentResponse student, String message) {
+        this.trackingId = trackingId;
+        this.status = status;
+        this.student = student;
+        this.message = message;
+    }
+
+    public String getTrackingId() {
+        return trackingId;
+    }
+
+    public void setTrackingId(String trackingId) {
+        this.trackingId = trackingId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public StudentResponse getStudent() {
+        return student;
+    }
+
+    public void setStudent(StudentResponse student) {
+        this.student = student;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
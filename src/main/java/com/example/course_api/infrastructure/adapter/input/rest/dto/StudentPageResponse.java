@@ -0,0 +1,32 @@
+package com.example.course_api.infrastructure.adapter.input.rest.dto;
+
+import java.util.List;
+
+public class StudentPageResponse {
+    private List<StudentResponse> students;
+    private String nextCursor;
+
+    public StudentPageResponse() {
+    }
+
+    public StudentPageResponse(List<StudentResponse> students, String nextCursor) {
+        this.students = students;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<StudentResponse> getStudents() {
+        return students;
+    }
+
+    public void setStudents(List<StudentResponse> students) {
+        this.students = students;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
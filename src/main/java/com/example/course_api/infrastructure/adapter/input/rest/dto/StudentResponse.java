@@ -1,14 +1,24 @@
 package com.example.course_api.infrastructure.adapter.input.rest.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Null properties are left out, so a response built for ?fields= carries only those fields.
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class StudentResponse {
     private Long studentId;
     private String firstName;
     private String lastName;
     private String email;
+    private Long version;
 
     public StudentResponse() {
     }
 
+    public StudentResponse(Long studentId, String firstName, String lastName, String email, Long version) {
+        this(studentId, firstName, lastName, email);
+        this.version = version;
+    }
+
     public StudentResponse(Long studentId, String firstName, String lastName, String email) {
         this.studentId = studentId;
         this.firstName = firstName;
@@ -47,6 +57,12 @@ public class StudentResponse {
     public void setEmail(String email) {
         this.email = email;
     }
-}
 
+    public Long getVersion() {
+        return version;
+    }
 
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
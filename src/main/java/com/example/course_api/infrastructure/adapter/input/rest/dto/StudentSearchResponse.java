@@ -0,0 +1,42 @@
+package com.example.course_api.infrastructure.adapter.input.rest.dto;
+
+import java.util.List;
+
+public class StudentSearchResponse {
+    private List<StudentResponse> students;
+    private String indexHint;
+    private boolean indexedHint;
+
+    public StudentSearchResponse() {
+    }
+
+    public StudentSearchResponse(List<StudentResponse> students, String indexHint, boolean indexedHint) {
+        this.students = students;
+        this.indexHint = indexHint;
+        this.indexedHint = indexedHint;
+    }
+
+    public List<StudentResponse> getStudents() {
+        return students;
+    }
+
+    public void setStudents(List<StudentResponse> students) {
+        this.students = students;
+    }
+
+    public String getIndexHint() {
+        return indexHint;
+    }
+
+    public void setIndexHint(String indexHint) {
+        this.indexHint = indexHint;
+    }
+
+    public boolean isIndexedHint() {
+        return indexedHint;
+    }
+
+    public void setIndexedHint(boolean indexedHint) {
+        this.indexedHint = indexedHint;
+    }
+}
@@ -1,7 +1,14 @@
 package com.example.course_api.infrastructure.adapter.input.rest.exception;
 
 import com.example.course_api.domain.exception.DuplicateEmailException;
+import com.example.course_api.domain.exception.IngestionQueueFullException;
 import com.example.course_api.domain.exception.StudentNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -10,32 +17,72 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
 
+    // Seconds; the ingestion writer drains a full batch well within this.
+    private static final String INGESTION_RETRY_AFTER = "1";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, Counter> outcomeCounters = new ConcurrentHashMap<>();
+
+    public GlobalExceptionHandler(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidationExceptions(MethodArgumentNotValidException ex) {
         final Map<String, String> errors = buildValidationErrors(ex);
-        return buildErrorResponse(errors, HttpStatus.BAD_REQUEST);
+        return buildErrorResponse(ex, errors, HttpStatus.BAD_REQUEST);
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, String>> handleIllegalArgumentException(IllegalArgumentException ex) {
         final Map<String, String> errors = buildSingleError("email", ex.getMessage());
-        return buildErrorResponse(errors, HttpStatus.BAD_REQUEST);
+        return buildErrorResponse(ex, errors, HttpStatus.BAD_REQUEST);
     }
 
     @ExceptionHandler(StudentNotFoundException.class)
     public ResponseEntity<Map<String, String>> handleStudentNotFoundException(StudentNotFoundException ex) {
         final Map<String, String> errors = buildSingleError("error", ex.getMessage());
-        return buildErrorResponse(errors, HttpStatus.NOT_FOUND);
+        return buildErrorResponse(ex, errors, HttpStatus.NOT_FOUND);
     }
 
     @ExceptionHandler(DuplicateEmailException.class)
     public ResponseEntity<Map<String, String>> handleDuplicateEmailException(DuplicateEmailException ex) {
         final Map<String, String> errors = buildSingleError("email", ex.getMessage());
-        return buildErrorResponse(errors, HttpStatus.BAD_REQUEST);
+        return buildErrorResponse(ex, errors, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidCursorException(InvalidCursorException ex) {
+        final Map<String, String> errors = buildSingleError("after", ex.getMessage());
+        return buildErrorResponse(ex, errors, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidSortException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidSortException(InvalidSortException ex) {
+        final Map<String, String> errors = buildSingleError("sort", ex.getMessage());
+        return buildErrorResponse(ex, errors, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidFieldsException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidFieldsException(InvalidFieldsException ex) {
+        final Map<String, String> errors = buildSingleError("fields", ex.getMessage());
+        return buildErrorResponse(ex, errors, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(IngestionQueueFullException.class)
+    public ResponseEntity<Map<String, String>> handleIngestionQueueFullException(IngestionQueueFullException ex) {
+        final Map<String, String> errors = buildSingleError("error", ex.getMessage());
+        countOutcome(ex, HttpStatus.TOO_MANY_REQUESTS);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, INGESTION_RETRY_AFTER)
+                .body(errors);
     }
 
     private Map<String, String> buildValidationErrors(final MethodArgumentNotValidException ex) {
@@ -52,9 +99,20 @@ public class GlobalExceptionHandler {
         return errors;
     }
 
-    private ResponseEntity<Map<String, String>> buildErrorResponse(final Map<String, String> errors, final HttpStatus status) {
+    private ResponseEntity<Map<String, String>> buildErrorResponse(final Exception ex, final Map<String, String> errors,
+                                                                   final HttpStatus status) {
+        countOutcome(ex, status);
         return new ResponseEntity<>(errors, status);
     }
+
+    private void countOutcome(final Exception ex, final HttpStatus status) {
+        final String exception = ex.getClass().getSimpleName();
+        outcomeCounters.computeIfAbsent(exception, key -> Counter.builder("students.errors")
+                .description("Requests answered by GlobalExceptionHandler, by exception type")
+                .tag("exception", key)
+                .tag("status", String.valueOf(status.value()))
+                .register(meterRegistry)).increment();
+    }
 }
 
 
@@ -0,0 +1,7 @@
+package com.example.course_api.infrastructure.adapter.input.rest.exception;
+
+public class InvalidFieldsException extends RuntimeException {
+    public InvalidFieldsException(String fields) {
+        super("Invalid fields: " + fields + " (expected a comma-separated list of studentId, firstName, lastName, email and version)");
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.course_api.infrastructure.adapter.input.rest.exception;
+
+public class InvalidSortException extends RuntimeException {
+    public InvalidSortException(String sort) {
+        super("Invalid sort: " + sort + " (expected lastName, firstName or studentId, optionally followed by ,asc or ,desc)");
+    }
+}
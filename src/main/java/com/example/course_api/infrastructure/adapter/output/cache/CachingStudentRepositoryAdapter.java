@@ -0,0 +1,223 @@
+package com.example.course_api.infrastructure.adapter.output.cache;
+
+import com.example.course_api.application.port.output.StudentRepositoryPort;
+import com.example.course_api.domain.model.Student;
+import com.example.course_api.domain.model.StudentCollectionVersion;
+import com.example.course_api.domain.model.StudentField;
+import com.example.course_api.domain.model.StudentSearchCriteria;
+import com.example.course_api.domain.model.StudentSearchResult;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through cache in front of another {@link StudentRepositoryPort}.
+ *
+ * <p>Only {@link #findById(Long)} is cached. Misses are cached as well, with their own
+ * (shorter) TTL. Every write evicts the IDs it touched, and evicts them again after the
+ * surrounding transaction completes so a reader cannot re-cache a pre-commit row.
+ * Students are copied in and out because the domain model is mutable.
+ *
+ * <p>A miss stores an incomplete future and then queries on the caller's thread, outside the
+ * cache's hash-bin lock, so a slow query never blocks lookups of other IDs. Callers that miss on
+ * the same ID wait for that future; an eviction while it loads drops it, so the loaded row is not
+ * cached.
+ */
+public class CachingStudentRepositoryAdapter implements StudentRepositoryPort {
+
+    private final StudentRepositoryPort delegate;
+    private final AsyncCache<Long, Optional<Student>> cache;
+
+    public CachingStudentRepositoryAdapter(StudentRepositoryPort delegate, long maximumSize,
+                                           Duration timeToLive, Duration negativeTimeToLive) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new HitOrMissExpiry(timeToLive, negativeTimeToLive))
+                .recordStats()
+                .buildAsync();
+    }
+
+    @Override
+    public Optional<Student> findById(Long id) {
+        final CompletableFuture<Optional<Student>> load = new CompletableFuture<>();
+        final CompletableFuture<Optional<Student>> cached = cache.get(id, (key, executor) -> load);
+        if (cached == load) {
+            try {
+                load.complete(delegate.findById(id).map(this::copy));
+            } catch (RuntimeException | Error ex) {
+                // A failed future is removed from the cache, so the next caller queries again.
+                load.completeExceptionally(ex);
+                throw ex;
+            }
+        }
+        try {
+            return cached.join().map(this::copy);
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    @Override
+    public Student insert(Student student) {
+        final Student created = delegate.insert(student);
+        evict(List.of(created.getStudentId()));
+        return created;
+    }
+
+    @Override
+    public Optional<Student> update(Student student) {
+        final Optional<Student> updated = delegate.update(student);
+        evict(List.of(student.getStudentId()));
+        return updated;
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        final boolean deleted = delegate.deleteById(id);
+        evict(List.of(id));
+        return deleted;
+    }
+
+    @Override
+    public int deleteAllById(Collection<Long> ids) {
+        final int deleted = delegate.deleteAllById(ids);
+        evict(List.copyOf(ids));
+        return deleted;
+    }
+
+    @Override
+    public List<Student> insertAll(List<Student> students) {
+        final List<Student> created = delegate.insertAll(students);
+        evict(created.stream().map(Student::getStudentId).collect(Collectors.toList()));
+        return created;
+    }
+
+    @Override
+    public List<Student> updateAll(List<Student> students) {
+        final List<Student> updated = delegate.updateAll(students);
+        evict(updated.stream().map(Student::getStudentId).collect(Collectors.toList()));
+        return updated;
+    }
+
+    @Override
+    public StudentCollectionVersion findCollectionVersion() {
+        return delegate.findCollectionVersion();
+    }
+
+    @Override
+    public List<Student> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Student> findPageAfter(Long afterId, int limit) {
+        return delegate.findPageAfter(afterId, limit);
+    }
+
+    @Override
+    public List<Student> findAll(Set<StudentField> fields) {
+        return delegate.findAll(fields);
+    }
+
+    @Override
+    public List<Student> findPageAfter(Long afterId, int limit, Set<StudentField> fields) {
+        return delegate.findPageAfter(afterId, limit, fields);
+    }
+
+    @Override
+    public StudentSearchResult search(StudentSearchCriteria criteria) {
+        return delegate.search(criteria);
+    }
+
+    @Override
+    public List<Student> suggest(String query, int limit) {
+        return delegate.suggest(query, limit);
+    }
+
+    @Override
+    public void streamAll(Consumer<Student> consumer) {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public Map<String, Long> findIdsByEmails(Collection<String> emails) {
+        return delegate.findIdsByEmails(emails);
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    Cache<Long, Optional<Student>> cache() {
+        return cache.synchronous();
+    }
+
+    private void evict(final Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        cache.synchronous().invalidateAll(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.synchronous().invalidateAll(ids);
+                }
+            });
+        }
+    }
+
+    private Student copy(final Student student) {
+        return Student.rehydrate(student.getStudentId(), student.getFirstName(), student.getLastName(),
+                student.getEmail(), student.getVersion());
+    }
+
+    private static final class HitOrMissExpiry implements Expiry<Long, Optional<Student>> {
+        private final long hitNanos;
+        private final long missNanos;
+
+        private HitOrMissExpiry(final Duration timeToLive, final Duration negativeTimeToLive) {
+            this.hitNanos = timeToLive.toNanos();
+            this.missNanos = negativeTimeToLive.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(Long key, Optional<Student> value, long currentTime) {
+            return value.isPresent() ? hitNanos : missNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, Optional<Student> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, Optional<Student> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
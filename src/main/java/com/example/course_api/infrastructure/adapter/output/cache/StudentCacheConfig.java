@@ -0,0 +1,35 @@
+package com.example.course_api.infrastructure.adapter.output.cache;
+
+import com.example.course_api.application.port.output.StudentRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "app.cache.students.enabled", havingValue = "true", matchIfMissing = false)
+public class StudentCacheConfig {
+
+    @Bean
+    @Primary
+    public CachingStudentRepositoryAdapter cachingStudentRepositoryAdapter(
+            @Qualifier("studentRepositoryAdapter") StudentRepositoryPort studentRepositoryAdapter,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.cache.students.maximum-size:10000}") long maximumSize,
+            @Value("${app.cache.students.ttl:5m}") Duration timeToLive,
+            @Value("${app.cache.students.negative-ttl:30s}") Duration negativeTimeToLive) {
+        CachingStudentRepositoryAdapter adapter = new CachingStudentRepositoryAdapter(
+                studentRepositoryAdapter, maximumSize, timeToLive, negativeTimeToLive);
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, adapter.cache(), "students"));
+        return adapter;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Puts {@link AdmissionControlledDataSource} in front of the pool when request handling runs on
+ * virtual threads ({@code spring.threads.virtual.enabled=true}).
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class DataSourceAdmissionConfig {
+
+    @Bean
+    static BeanPostProcessor dataSourceAdmissionPostProcessor(Environment environment) {
+        int permits = environment.getProperty("app.datasource.admission.permits", Integer.class,
+                environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+        Duration timeout = environment.getProperty("app.datasource.admission.timeout", Duration.class,
+                Duration.ofSeconds(30));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof AdmissionControlledDataSource)) {
+                    return new AdmissionControlledDataSource(dataSource, permits, timeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder dataSourceAdmissionMetrics(DataSource dataSource) {
+        return registry -> {
+            final AdmissionControlledDataSource admission;
+            try {
+                admission = dataSource.unwrap(AdmissionControlledDataSource.class);
+            } catch (SQLException ex) {
+                return;
+            }
+            Gauge.builder("datasource.admission.waiting", admission, AdmissionControlledDataSource::queueLength)
+                    .description("Threads queued for a database connection permit")
+                    .register(registry);
+            Gauge.builder("datasource.admission.available", admission, AdmissionControlledDataSource::availablePermits)
+                    .description("Database connection permits not currently held")
+                    .register(registry);
+        };
+    }
+}
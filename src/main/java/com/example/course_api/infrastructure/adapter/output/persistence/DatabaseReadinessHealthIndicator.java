@@ -0,0 +1,108 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Readiness check for the connection pool, exposed as the {@code databasePool} contributor of the
+ * {@code readiness} health group.
+ *
+ * <p>It borrows one connection and validates it with {@link Connection#isValid(int)}, which is a
+ * driver-level ping, not a query against {@code tbl_students}. The result is cached for a short
+ * interval and concurrent probes share a single in-flight check. A probe waits at most the
+ * configured timeout, so a saturated pool reports {@code DOWN} instead of stalling the caller.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class DatabaseReadinessHealthIndicator implements HealthIndicator {
+
+    private final DataSource dataSource;
+    private final Duration timeout;
+    private final long cacheTtlNanos;
+    private final Executor executor;
+
+    private volatile CachedHealth cached;
+    private CompletableFuture<Health> inFlight;
+
+    @Autowired
+    public DatabaseReadinessHealthIndicator(DataSource dataSource,
+                                            @Value("${app.health.readiness.timeout:2s}") Duration timeout,
+                                            @Value("${app.health.readiness.cache-ttl:5s}") Duration cacheTtl) {
+        this(dataSource, timeout, cacheTtl, DatabaseReadinessHealthIndicator::runOnDaemonThread);
+    }
+
+    DatabaseReadinessHealthIndicator(DataSource dataSource, Duration timeout, Duration cacheTtl, Executor executor) {
+        this.dataSource = dataSource;
+        this.timeout = timeout;
+        this.cacheTtlNanos = cacheTtl.toNanos();
+        this.executor = executor;
+    }
+
+    @Override
+    public Health health() {
+        CachedHealth current = cached;
+        if (current != null && System.nanoTime() - current.checkedAt() < cacheTtlNanos) {
+            return current.health();
+        }
+        try {
+            return check().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            return Health.down().withDetail("error", "Connection not validated within " + timeout).build();
+        } catch (ExecutionException ex) {
+            return Health.down(ex.getCause()).build();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return Health.down(ex).build();
+        }
+    }
+
+    private synchronized CompletableFuture<Health> check() {
+        if (inFlight == null || inFlight.isDone()) {
+            inFlight = CompletableFuture.supplyAsync(this::validate, executor)
+                    .whenComplete((health, ex) -> {
+                        if (health != null) {
+                            cached = new CachedHealth(health, System.nanoTime());
+                        }
+                    });
+        }
+        return inFlight;
+    }
+
+    private Health validate() {
+        try (Connection connection = dataSource.getConnection()) {
+            if (connection.isValid(validationSeconds())) {
+                return Health.up().withDetail("validationTimeout", timeout.toString()).build();
+            }
+            return Health.down().withDetail("error", "Connection failed validation").build();
+        } catch (SQLException ex) {
+            return Health.down(ex).build();
+        }
+    }
+
+    private int validationSeconds() {
+        return (int) Math.max(1, timeout.toSeconds());
+    }
+
+    private static void runOnDaemonThread(Runnable task) {
+        Thread thread = new Thread(task, "database-readiness-check");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private record CachedHealth(Health health, long checkedAt) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+/**
+ * Marks the current thread as pinned to the primary database. {@link ReadYourWritesFilter} sets it
+ * for a request that writes, or that comes from a client which wrote recently, so that
+ * {@link ReplicaRoutingDataSource} does not answer that client from a replica that may not have
+ * caught up yet.
+ */
+final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+
+    static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    static void clear() {
+        PINNED.remove();
+    }
+}
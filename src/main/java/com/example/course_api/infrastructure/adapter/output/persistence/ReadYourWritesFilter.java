@@ -0,0 +1,77 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Gives each client a read-your-writes window. A request with a method other than GET, HEAD or
+ * OPTIONS gets a cookie holding the end of the window; while that cookie is valid, the client's
+ * requests are pinned to the primary. Clients that drop cookies only get replica reads.
+ */
+class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE = "students-primary-until";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final long windowMillis;
+
+    ReadYourWritesFilter(Duration window) {
+        this.windowMillis = window.toMillis();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        final long now = System.currentTimeMillis();
+        final boolean write = !SAFE_METHODS.contains(request.getMethod());
+        if (write) {
+            // Set before the body is written; a failed write only costs its client a few primary reads.
+            final Cookie cookie = new Cookie(COOKIE, Long.toString(now + windowMillis));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, (windowMillis + 999) / 1_000));
+            response.addCookie(cookie);
+        }
+        if (!write && !withinWindow(pinnedUntil(request), now)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        ReadYourWrites.pin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+
+    // A deadline further out than one window did not come from this filter and is ignored.
+    private boolean withinWindow(final long pinnedUntil, final long now) {
+        return pinnedUntil > now && pinnedUntil <= now + windowMillis;
+    }
+
+    private static long pinnedUntil(final HttpServletRequest request) {
+        final Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (final Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * IDs of students this instance wrote within the last read-your-writes window. A lookup of one of
+ * them reads the primary, so the student cache refilled right after a write (by any client) does
+ * not pick up an older row from a lagging replica. Does nothing unless replicas are enabled.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+class RecentStudentWrites {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final boolean enabled;
+    private final long windowNanos;
+    private final ConcurrentMap<Long, Long> deadlines = new ConcurrentHashMap<>();
+
+    RecentStudentWrites(@Value("${app.datasource.replicas.enabled:false}") boolean enabled,
+                        @Value("${app.datasource.replicas.read-your-writes:2s}") Duration window) {
+        this.enabled = enabled;
+        this.windowNanos = window.toNanos();
+    }
+
+    void record(final Long id) {
+        if (enabled) {
+            purgeIfLarge();
+            deadlines.put(id, System.nanoTime() + windowNanos);
+        }
+    }
+
+    void recordAll(final Collection<Long> ids) {
+        if (enabled) {
+            purgeIfLarge();
+            final long deadline = System.nanoTime() + windowNanos;
+            ids.forEach(id -> deadlines.put(id, deadline));
+        }
+    }
+
+    boolean contains(final Long id) {
+        if (!enabled) {
+            return false;
+        }
+        final Long deadline = deadlines.get(id);
+        if (deadline == null) {
+            return false;
+        }
+        if (deadline - System.nanoTime() > 0) {
+            return true;
+        }
+        deadlines.remove(id, deadline);
+        return false;
+    }
+
+    private void purgeIfLarge() {
+        if (deadlines.size() > PURGE_THRESHOLD) {
+            final long now = System.nanoTime();
+            deadlines.values().removeIf(deadline -> deadline - now <= 0);
+        }
+    }
+}
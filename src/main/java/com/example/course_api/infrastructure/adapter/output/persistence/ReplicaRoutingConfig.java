@@ -0,0 +1,93 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Replaces the auto-configured pool with one pool for the primary ({@code spring.datasource.*})
+ * and one per replica URL in {@code app.datasource.replicas.urls}, routed by
+ * {@link ReplicaRoutingDataSource}. Every pool takes the {@code spring.datasource.hikari.*}
+ * settings; replica pools are read-only. Meters go to the global registry, as in
+ * {@link StatementTimingConfig}.
+ *
+ * <p>The pools are not beans of their own, so Spring Boot binds {@code hikaricp.*} meters to none
+ * but the one it unwraps and closes none of them. Each pool is therefore given its meters here,
+ * tagged with its pool name, and closed when this configuration is destroyed, after the data source
+ * and everything that uses it.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReplicaRoutingConfig implements DisposableBean {
+
+    private final List<HikariDataSource> pools = new CopyOnWriteArrayList<>();
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment) {
+        final HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        configure(primary, "primary", environment);
+
+        final String[] urls = environment.getRequiredProperty("app.datasource.replicas.urls", String[].class);
+        final String username = environment.getProperty("app.datasource.replicas.username", properties.determineUsername());
+        final String password = environment.getProperty("app.datasource.replicas.password", properties.determinePassword());
+        final List<DataSource> replicas = new ArrayList<>(urls.length);
+        for (int i = 0; i < urls.length; i++) {
+            final HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(urls[i].trim())
+                    .username(username)
+                    .password(password)
+                    .build();
+            configure(replica, "replica-" + i, environment);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replicas, Metrics.globalRegistry));
+    }
+
+    @Bean
+    FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${app.datasource.replicas.read-your-writes:2s}") Duration window) {
+        final FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(window));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Override
+    public void destroy() {
+        pools.forEach(HikariDataSource::close);
+        pools.clear();
+    }
+
+    private void configure(final HikariDataSource pool, final String name, final Environment environment) {
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName("students-" + name);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(Metrics.globalRegistry));
+        pools.add(pool);
+    }
+}
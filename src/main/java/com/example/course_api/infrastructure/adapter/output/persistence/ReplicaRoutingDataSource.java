@@ -0,0 +1,94 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends the connections of read-only transactions to a replica and every other connection to the
+ * primary.
+ *
+ * <p>Replicas are used round-robin. A thread pinned by {@link ReadYourWrites} always gets the
+ * primary. If the chosen replica cannot hand out a connection, the read falls back to the primary,
+ * so losing a replica degrades to single-database operation instead of failing reads.
+ *
+ * <p>This must sit behind a {@code LazyConnectionDataSourceProxy}: the transaction manager asks for
+ * the connection before it marks the transaction read-only, and the proxy defers that request to
+ * the first statement.
+ */
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final Map<String, Counter> connections = new HashMap<>();
+    private final Counter fallbacks;
+    private final AtomicInteger next = new AtomicInteger();
+
+    ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, MeterRegistry registry) {
+        this.primary = primary;
+        final Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            final String key = "replica-" + i;
+            replicaKeys.add(key);
+            targets.put(key, replicas.get(i));
+        }
+        for (final Object key : targets.keySet()) {
+            connections.put((String) key, Counter.builder("datasource.routing.connections")
+                    .description("Connections handed out, by target database")
+                    .tag("target", (String) key)
+                    .register(registry));
+        }
+        this.fallbacks = Counter.builder("datasource.routing.fallbacks")
+                .description("Replica connections that failed and were served by the primary")
+                .register(registry);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaKeys.isEmpty() || ReadYourWrites.isPinned()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        return replicaKeys.get(Math.floorMod(next.getAndIncrement(), replicaKeys.size()));
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        final String key = (String) determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            connections.get(PRIMARY).increment();
+            return primary.getConnection();
+        }
+        try {
+            final Connection connection = getResolvedDataSources().get(key).getConnection();
+            connections.get(key).increment();
+            return connection;
+        } catch (SQLException ex) {
+            logger.warn("Replica {} unavailable, reading from the primary: {}", key, ex.getMessage());
+            fallbacks.increment();
+            connections.get(PRIMARY).increment();
+            return primary.getConnection();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key: the first caller runs the call, callers that arrive
+ * while it is running wait for it and get the same result or exception. Nothing is kept once the
+ * call returns, so this is not a cache; a caller may see the result of a query that started just
+ * before it arrived, the same staleness as a read racing a write. A writer calls {@link #forget}
+ * so that callers arriving after the write start a new call instead of joining one that may have
+ * read the old value; the callers already waiting keep theirs.
+ */
+final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    V run(final K key, final Supplier<V> call) {
+        final CompletableFuture<V> mine = new CompletableFuture<>();
+        final CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            final V value = call.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    void forget(final K key) {
+        inFlight.remove(key);
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(final CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Wraps the application {@link DataSource} in a {@link StatementTimingDataSource}. The data source
+ * is created before the meter registries, so the timers go to the global registry, which Spring
+ * Boot links to its own registries.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "app.jdbc.statement-log.enabled", havingValue = "true", matchIfMissing = true)
+public class StatementTimingConfig {
+
+    @Bean
+    static BeanPostProcessor statementTimingPostProcessor(Environment environment) {
+        Duration threshold = environment.getProperty("app.jdbc.statement-log.slow-threshold", Duration.class,
+                Duration.ofMillis(100));
+        double sampleRate = environment.getProperty("app.jdbc.statement-log.sample-rate", Double.class, 0.01);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementTimingDataSource)) {
+                    return new StatementTimingDataSource(dataSource, Metrics.globalRegistry, threshold, sampleRate);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import com.example.course_api.application.port.output.StudentRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Times every JDBC statement (JPA reads and {@code JdbcTemplate} writes alike) into a
+ * {@code jdbc.statements} histogram tagged with the statement shape, and logs only the statements
+ * slower than a threshold plus a random sample of the rest.
+ *
+ * <p>This replaces {@code spring.jpa.show-sql}, which printed every statement synchronously on
+ * the request thread. The shape is the SQL with literals removed and {@code IN (?, ?, ...)} lists
+ * collapsed, so bulk deletes of any size share one series. The calling {@link StudentRepositoryPort}
+ * method is found with a stack walk, which only runs for statements that are actually logged.
+ */
+class StatementTimingDataSource extends DelegatingDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementTimingDataSource.class);
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])\\d+(?:\\.\\d+)?");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_CACHED_SQL = 1_024;
+    private static final int MAX_SHAPES = 256;
+    private static final String OTHER_SHAPE = "other";
+
+    private final MeterRegistry registry;
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final Map<String, Timer> timersBySql = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timersByShape = new ConcurrentHashMap<>();
+
+    StatementTimingDataSource(DataSource target, MeterRegistry registry, Duration threshold, double sampleRate) {
+        super(target);
+        this.registry = registry;
+        this.thresholdNanos = threshold.toNanos();
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return timing(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return timing(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = PARAMETER_LIST.matcher(shape).replaceAll("(?...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    static String callingPortMethod() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> StudentRepositoryPort.class.isAssignableFrom(frame.getDeclaringClass()))
+                .filter(frame -> frame.getMethodName().indexOf('$') < 0)
+                .findFirst()
+                .map(frame -> frame.getDeclaringClass().getSimpleName() + "." + frame.getMethodName())
+                .orElse("-"));
+    }
+
+    private Connection timing(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement statement && method.getName().startsWith("prepare")) {
+                        return timing(statement, (String) args[0]);
+                    }
+                    if (result instanceof Statement statement && "createStatement".equals(method.getName())) {
+                        return timing(statement, null);
+                    }
+                    return result;
+                });
+    }
+
+    private Statement timing(Statement statement, String sql) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                new TimedStatementHandler(statement, sql)));
+    }
+
+    private Timer timer(String sql) {
+        Timer timer = timersBySql.get(sql);
+        if (timer != null) {
+            return timer;
+        }
+        String shape = shapeOf(sql);
+        timer = timersByShape.get(shape);
+        if (timer == null) {
+            timer = timersByShape.size() < MAX_SHAPES
+                    ? timersByShape.computeIfAbsent(shape, this::newTimer)
+                    : timersByShape.computeIfAbsent(OTHER_SHAPE, this::newTimer);
+        }
+        if (timersBySql.size() < MAX_CACHED_SQL) {
+            timersBySql.put(sql, timer);
+        }
+        return timer;
+    }
+
+    private Timer newTimer(String shape) {
+        return Timer.builder("jdbc.statements")
+                .description("JDBC statement execution time by statement shape")
+                .tag("shape", shape)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(registry);
+    }
+
+    private void completed(String sql, long elapsedNanos, int binds, int batches) {
+        timer(sql).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (elapsedNanos >= thresholdNanos) {
+            if (logger.isWarnEnabled()) {
+                logger.warn("Slow SQL {} ms, {} binds, {} batches, from {}: {}",
+                        TimeUnit.NANOSECONDS.toMillis(elapsedNanos), binds, batches, callingPortMethod(), sql);
+            }
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate && logger.isInfoEnabled()) {
+            logger.info("Sampled SQL {} ms, {} binds, {} batches, from {}: {}",
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), binds, batches, callingPortMethod(), sql);
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    /**
+     * Counts bind parameters (the highest index passed to a {@code setXxx(int, ...)} call) and
+     * batch entries, and times the {@code execute*} calls.
+     */
+    private final class TimedStatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+        private String sql;
+        private int binds;
+        private int batches;
+
+        private TimedStatementHandler(Statement statement, String sql) {
+            this.statement = statement;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                String executed = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+                long start = System.nanoTime();
+                try {
+                    return StatementTimingDataSource.invoke(statement, method, args);
+                } finally {
+                    if (executed != null) {
+                        completed(executed, System.nanoTime() - start, binds, batches);
+                    }
+                    batches = 0;
+                }
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                binds = Math.max(binds, index);
+            } else if ("addBatch".equals(name)) {
+                batches++;
+                if (sql == null && args != null && args.length == 1) {
+                    sql = (String) args[0];
+                }
+            }
+            return StatementTimingDataSource.invoke(statement, method, args);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * In-memory Bloom filter of every {@code email_address} in {@code tbl_students}.
+ *
+ * <p>A "definitely absent" answer lets the adapter skip the {@code existsByEmail} round trip.
+ * Until the first build finishes, or when disabled, every email is reported as possibly
+ * present so callers always fall through to the database. Deleted emails are only dropped
+ * on the next rebuild, which happens at startup and whenever the filter outgrows its
+ * capacity; the {@code email_address} unique constraint remains the final guard.
+ *
+ * <p>The filter only learns about inserts made through this instance. An email written by
+ * another instance, the reactive mode or plain SQL would be reported as absent, which a Bloom
+ * filter must never do, so it is only built when {@code single-writer} declares this instance
+ * the only writer of {@code tbl_students}. Even then, a duplicate key the filter did not predict
+ * ({@link #invalidate()}) drops it until a rebuild has read the table again.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class StudentEmailFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentEmailFilter.class);
+
+    private final StudentJpaRepository studentJpaRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final boolean singleWriter;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Executor rebuildExecutor;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Timer rebuildTimer;
+    private final Counter skippedLookups;
+    private final Counter falsePositives;
+
+    private volatile BloomFilter active;
+    private volatile BloomFilter pending;
+
+    @Autowired
+    public StudentEmailFilter(StudentJpaRepository studentJpaRepository,
+                              PlatformTransactionManager transactionManager,
+                              ObjectProvider<MeterRegistry> meterRegistry,
+                              @Value("${app.students.email-filter.enabled:true}") boolean enabled,
+                              @Value("${app.students.email-filter.single-writer:false}") boolean singleWriter,
+                              @Value("${app.students.email-filter.expected-insertions:100000}") long expectedInsertions,
+                              @Value("${app.students.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this(studentJpaRepository, transactionManager, meterRegistry, enabled, singleWriter, expectedInsertions,
+                falsePositiveRate, Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "student-email-filter");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    StudentEmailFilter(StudentJpaRepository studentJpaRepository, PlatformTransactionManager transactionManager,
+                       ObjectProvider<MeterRegistry> meterRegistry, boolean enabled, boolean singleWriter,
+                       long expectedInsertions, double falsePositiveRate, Executor rebuildExecutor) {
+        this.studentJpaRepository = studentJpaRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.singleWriter = singleWriter;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildExecutor = rebuildExecutor;
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.rebuildTimer = Timer.builder("students.email.filter.rebuild")
+                .description("Time to rebuild the email Bloom filter from the database")
+                .register(registry);
+        this.skippedLookups = Counter.builder("students.email.filter.lookups")
+                .tag("result", "skipped")
+                .register(registry);
+        this.falsePositives = Counter.builder("students.email.filter.lookups")
+                .tag("result", "false_positive")
+                .register(registry);
+        Gauge.builder("students.email.filter.false.positive.rate", this, StudentEmailFilter::observedFalsePositiveRate)
+                .description("Share of absent emails that the filter still sent to the database")
+                .register(registry);
+        Gauge.builder("students.email.filter.expected.false.positive.rate", this, StudentEmailFilter::expectedFalsePositiveRate)
+                .register(registry);
+    }
+
+    public boolean mightContain(String email) {
+        final BloomFilter current = active;
+        if (current == null || current.mightContain(key(email))) {
+            return true;
+        }
+        skippedLookups.increment();
+        return false;
+    }
+
+    public void recordDatabaseAnswer(boolean exists) {
+        if (!exists && active != null) {
+            falsePositives.increment();
+        }
+    }
+
+    public void add(String email) {
+        final String key = key(email);
+        final BloomFilter current = active;
+        if (current != null) {
+            current.put(key);
+            if (current.isSaturated() && !rebuilding.get()) {
+                rebuildExecutor.execute(this::rebuild);
+            }
+        }
+        final BloomFilter next = pending;
+        if (next != null) {
+            next.put(key);
+        }
+    }
+
+    /**
+     * Called when the database reports a duplicate email that a lookup through this filter had not
+     * found: some write bypassed the filter. Lookups fall through to the database until the
+     * rebuild started here has read the table again.
+     */
+    public void invalidate() {
+        if (!enabled || !singleWriter) {
+            return;
+        }
+        invalidations.incrementAndGet();
+        active = null;
+        logger.warn("Student email filter missed an existing email; rebuilding it from the database");
+        rebuildExecutor.execute(this::rebuild);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildExecutor.execute(this::rebuild);
+    }
+
+    public void rebuild() {
+        if (!enabled || !singleWriter || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            final long invalidationsSeen = invalidations.get();
+            rebuildTimer.record(() -> {
+                final long rows = studentJpaRepository.count();
+                final BloomFilter next = BloomFilter.create(Math.max(expectedInsertions, rows * 2), falsePositiveRate);
+                pending = next;
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<String> emails = studentJpaRepository.streamAllEmails()) {
+                        emails.forEach(email -> next.put(key(email)));
+                    }
+                });
+                // Invalidated while streaming: the missed row may be behind the cursor, and the
+                // rebuild queued by invalidate() reads the table again.
+                if (invalidations.get() == invalidationsSeen) {
+                    active = next;
+                }
+            });
+        } catch (RuntimeException ex) {
+            logger.warn("Could not rebuild the student email filter; lookups fall through to the database", ex);
+        } finally {
+            pending = null;
+            rebuilding.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (rebuildExecutor instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    private double observedFalsePositiveRate() {
+        final double negatives = skippedLookups.count() + falsePositives.count();
+        return negatives == 0 ? 0 : falsePositives.count() / negatives;
+    }
+
+    private double expectedFalsePositiveRate() {
+        final BloomFilter current = active;
+        return current == null ? 1 : current.expectedFalsePositiveRate();
+    }
+
+    private static String key(final String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+public interface StudentEmailView {
+    Long getStudentId();
+    String getEmail();
+}
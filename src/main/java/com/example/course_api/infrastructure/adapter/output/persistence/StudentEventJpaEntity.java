@@ -0,0 +1,40 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * Outbox row of one student change. Mapped only so that the schema is generated with the rest;
+ * rows are written and read through JDBC by {@link StudentEventLogAdapter}.
+ */
+@Entity
+@Table(name = "tbl_student_events", indexes = {
+        @Index(name = "idx_student_events_occurred_at", columnList = "occurred_at")
+})
+@Data
+public class StudentEventJpaEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long eventId;
+
+    @Column(nullable = false, length = 16)
+    private String eventType;
+
+    @Column(nullable = false)
+    private Long studentId;
+
+    private String firstName;
+
+    private String lastName;
+
+    @Column(name = "email_address")
+    private String email;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(nullable = false)
+    private Instant occurredAt;
+}
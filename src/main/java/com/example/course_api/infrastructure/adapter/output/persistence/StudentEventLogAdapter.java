@@ -0,0 +1,126 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import com.example.course_api.application.port.output.StudentEventLogPort;
+import com.example.course_api.domain.model.Student;
+import com.example.course_api.domain.model.StudentChangeEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The student outbox. {@link StudentRepositoryAdapter} appends a row for every student it
+ * creates, updates or deletes, on the connection of the write, so the row commits or rolls back
+ * with it. Appends are no-ops while the change feed is disabled, so the table does not grow
+ * without anything pruning it.
+ *
+ * <p>Reads are not read-only transactions on purpose: with replicas enabled they go to the
+ * primary, where a lagging replica cannot make the relay skip committed events.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class StudentEventLogAdapter implements StudentEventLogPort {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO tbl_student_events (event_type, student_id, first_name, last_name, email_address, version, "
+            + "occurred_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    // Recorded before the DELETE, so that only students that exist get an event.
+    private static final String INSERT_DELETED_SQL =
+            "INSERT INTO tbl_student_events (event_type, student_id, version, occurred_at) "
+            + "SELECT 'DELETED', student_id, ?, ? FROM tbl_students WHERE student_id IN (%s)";
+    private static final String FIND_AFTER_SQL =
+            "SELECT event_id, event_type, student_id, first_name, last_name, email_address, version "
+            + "FROM tbl_student_events WHERE event_id > ? ORDER BY event_id LIMIT ?";
+    private static final String FIND_BY_IDS_SQL =
+            "SELECT event_id, event_type, student_id, first_name, last_name, email_address, version "
+            + "FROM tbl_student_events WHERE event_id IN (%s) ORDER BY event_id";
+    private static final String LATEST_SQL = "SELECT COALESCE(MAX(event_id), 0) FROM tbl_student_events";
+    private static final String DELETE_OLDER_SQL = "DELETE FROM tbl_student_events WHERE occurred_at < ?";
+
+    private static final RowMapper<StudentChangeEvent> EVENT_MAPPER = (resultSet, rowNum) -> new StudentChangeEvent(
+            resultSet.getLong("event_id"),
+            StudentChangeEvent.Type.valueOf(resultSet.getString("event_type")),
+            Student.rehydrate(
+                    resultSet.getLong("student_id"),
+                    resultSet.getString("first_name"),
+                    resultSet.getString("last_name"),
+                    resultSet.getString("email_address"),
+                    resultSet.getLong("version")));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public StudentEventLogAdapter(JdbcTemplate jdbcTemplate,
+                                  @Value("${app.students.events.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Appends one event per student, in one batch.
+     */
+    void append(final StudentChangeEvent.Type type, final List<Student> students) {
+        if (!enabled || students.isEmpty()) {
+            return;
+        }
+        final Timestamp now = Timestamp.from(Instant.now());
+        final List<Object[]> rows = new ArrayList<>(students.size());
+        for (final Student student : students) {
+            rows.add(new Object[] {type.name(), student.getStudentId(), student.getFirstName(), student.getLastName(),
+                    student.getEmail(), student.getVersion(), now});
+        }
+        if (rows.size() == 1) {
+            jdbcTemplate.update(INSERT_SQL, rows.get(0));
+        } else {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        }
+    }
+
+    /**
+     * Appends a {@code DELETED} event for each of {@code ids} that still exists, in one statement.
+     */
+    void appendDeleted(final Collection<Long> ids, final long version) {
+        if (!enabled || ids.isEmpty()) {
+            return;
+        }
+        final String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        final List<Object> args = new ArrayList<>(ids.size() + 2);
+        args.add(version);
+        args.add(Timestamp.from(Instant.now()));
+        args.addAll(ids);
+        jdbcTemplate.update(String.format(INSERT_DELETED_SQL, placeholders), args.toArray());
+    }
+
+    @Override
+    public List<StudentChangeEvent> findAfter(long eventId, int limit) {
+        return jdbcTemplate.query(FIND_AFTER_SQL, EVENT_MAPPER, eventId, limit);
+    }
+
+    @Override
+    public List<StudentChangeEvent> findByIds(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+        final String placeholders = String.join(", ", Collections.nCopies(eventIds.size(), "?"));
+        return jdbcTemplate.query(String.format(FIND_BY_IDS_SQL, placeholders), EVENT_MAPPER, eventIds.toArray());
+    }
+
+    @Override
+    public long findLatestEventId() {
+        final Long latest = jdbcTemplate.queryForObject(LATEST_SQL, Long.class);
+        return latest == null ? 0 : latest;
+    }
+
+    @Override
+    public int deleteOlderThan(Instant cutoff) {
+        return jdbcTemplate.update(DELETE_OLDER_SQL, Timestamp.from(cutoff));
+    }
+}
@@ -2,9 +2,15 @@ package com.example.course_api.infrastructure.adapter.output.persistence;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "tbl_students")
+@Table(name = "tbl_students", indexes = {
+        @Index(name = "idx_students_version", columnList = "version"),
+        @Index(name = StudentSearchIndex.LAST_FIRST, columnList = "last_name, first_name"),
+        @Index(name = StudentSearchIndex.FIRST_LAST, columnList = "first_name, last_name"),
+        @Index(name = StudentSearchIndex.EMAIL_DOMAIN, columnList = "email_domain")
+})
 @Data
 public class StudentJpaEntity {
     @Id
@@ -19,6 +25,17 @@ public class StudentJpaEntity {
 
     @Column(name = "email_address", unique = true, nullable = false)
     private String email;
+
+    // Part of the email after '@', written alongside it so domain searches can use an index.
+    @Column(nullable = false)
+    @ColumnDefault("''")
+    private String emailDomain;
+
+    // Modification stamp issued by StudentVersionClock on every write, not a per-row counter,
+    // so SUM(version) moves whenever any row changes.
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
 }
 
 
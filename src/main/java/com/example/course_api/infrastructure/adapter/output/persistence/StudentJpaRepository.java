@@ -1,11 +1,54 @@
 package com.example.course_api.infrastructure.adapter.output.persistence;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
-public interface StudentJpaRepository extends JpaRepository<StudentJpaEntity, Long> {
+public interface StudentJpaRepository extends JpaRepository<StudentJpaEntity, Long>, StudentProjectionRepository {
     boolean existsByEmail(String email);
+    List<StudentEmailView> findByEmailIn(Collection<String> emails);
+    List<StudentJpaEntity> findByStudentIdGreaterThanOrderByStudentIdAsc(Long studentId, Limit limit);
+
+    // Patterns come from StudentSearchIndex.likePrefix; '%' leaves a field unfiltered.
+    @Query("select s from StudentJpaEntity s where s.lastName like :lastName escape '!' "
+            + "and s.firstName like :firstName escape '!' and s.emailDomain like :emailDomain escape '!'")
+    List<StudentJpaEntity> search(@Param("lastName") String lastNamePattern,
+                                  @Param("firstName") String firstNamePattern,
+                                  @Param("emailDomain") String emailDomainPattern,
+                                  Sort sort, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<StudentJpaEntity> streamAllByOrderByStudentIdAsc();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select s.email from StudentJpaEntity s")
+    Stream<String> streamAllEmails();
+
+    // Scalar projection: rows are not managed entities, so the persistence context stays empty.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select s.studentId as studentId, s.firstName as firstName, s.lastName as lastName, "
+            + "s.email as email, s.version as version from StudentJpaEntity s order by s.studentId")
+    Stream<StudentSuggestionRow> streamAllSuggestionRows();
 }
 
 
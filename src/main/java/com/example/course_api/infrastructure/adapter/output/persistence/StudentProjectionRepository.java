@@ -0,0 +1,19 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+/**
+ * Tuple projections of {@link StudentJpaEntity} that select only the requested attributes.
+ */
+public interface StudentProjectionRepository {
+
+    /**
+     * Rows with only {@code attributes} selected, each readable from the tuple under its own name.
+     * With a {@code studentId} lower bound, rows are in student ID order and at most {@code limit}
+     * are returned.
+     */
+    List<Tuple> findProjected(List<String> attributes, Long afterId, Limit limit);
+}
@@ -0,0 +1,48 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Builds the JPQL from a fixed set of attribute names. There are at most 31 distinct queries,
+ * so each one is parsed once and then served from Hibernate's query plan cache.
+ */
+class StudentProjectionRepositoryImpl implements StudentProjectionRepository {
+
+    private static final Set<String> ATTRIBUTES = Set.of("studentId", "firstName", "lastName", "email", "version");
+
+    private final EntityManager entityManager;
+
+    StudentProjectionRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Tuple> findProjected(final List<String> attributes, final Long afterId, final Limit limit) {
+        final StringBuilder jpql = new StringBuilder("select ");
+        for (int i = 0; i < attributes.size(); i++) {
+            final String attribute = attributes.get(i);
+            if (!ATTRIBUTES.contains(attribute)) {
+                throw new IllegalArgumentException("Unknown student attribute: " + attribute);
+            }
+            jpql.append(i == 0 ? "" : ", ").append("s.").append(attribute).append(" as ").append(attribute);
+        }
+        jpql.append(" from StudentJpaEntity s");
+        if (afterId != null) {
+            jpql.append(" where s.studentId > :afterId order by s.studentId");
+        }
+        final TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class);
+        if (afterId != null) {
+            query.setParameter("afterId", afterId);
+        }
+        if (limit.isLimited()) {
+            query.setMaxResults(limit.max());
+        }
+        return query.getResultList();
+    }
+}
@@ -1,38 +1,157 @@
 package com.example.course_api.infrastructure.adapter.output.persistence;
 
 import com.example.course_api.application.port.output.StudentRepositoryPort;
+import com.example.course_api.domain.exception.DuplicateEmailException;
 import com.example.course_api.domain.model.Student;
+import com.example.course_api.domain.model.StudentChangeEvent;
+import com.example.course_api.domain.model.StudentCollectionVersion;
+import com.example.course_api.domain.model.StudentField;
+import com.example.course_api.domain.model.StudentSearchCriteria;
+import com.example.course_api.domain.model.StudentSearchResult;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class StudentRepositoryAdapter implements StudentRepositoryPort {
 
+    // Writes go straight through JDBC: one statement per call, no merge-before-update SELECT,
+    // and batches are not blocked by the IDENTITY key of StudentJpaEntity. Duplicate emails
+    // are detected by the email_address unique constraint. UPDATE counts rely on MySQL
+    // reporting matched rows (the Connector/J default, useAffectedRows=false).
+    // Each successful write also appends its outbox rows (StudentEventLogAdapter) on the same
+    // connection; StudentService opens a transaction around every write, so both commit together.
+    private static final String INSERT_SQL =
+            "INSERT INTO tbl_students (first_name, last_name, email_address, email_domain, version) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_SQL =
+            "UPDATE tbl_students SET first_name = ?, last_name = ?, email_address = ?, email_domain = ?, version = ? "
+            + "WHERE student_id = ?";
+    private static final String COLLECTION_VERSION_SQL =
+            "SELECT COALESCE(SUM(version), 0), COUNT(*) FROM tbl_students";
+    private static final String DELETE_SQL = "DELETE FROM tbl_students WHERE student_id = ?";
+    private static final String DELETE_ALL_SQL = "DELETE FROM tbl_students WHERE student_id IN (%s)";
+
     private final StudentJpaRepository studentJpaRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final StudentEmailFilter studentEmailFilter;
+    private final StudentSuggestions studentSuggestions;
+    private final RecentStudentWrites recentWrites;
+    private final StudentEventLogAdapter eventLog;
+    private final TransactionTemplate readOnlyTransaction;
+    private final StudentVersionClock versionClock = new StudentVersionClock();
+    private final SingleFlight<Long, Optional<Student>> findByIdFlights = new SingleFlight<>();
 
-    public StudentRepositoryAdapter(StudentJpaRepository studentJpaRepository) {
+    public StudentRepositoryAdapter(StudentJpaRepository studentJpaRepository, EntityManager entityManager,
+                                    JdbcTemplate jdbcTemplate, StudentEmailFilter studentEmailFilter,
+                                    StudentSuggestions studentSuggestions, RecentStudentWrites recentWrites,
+                                    StudentEventLogAdapter eventLog, PlatformTransactionManager transactionManager) {
         this.studentJpaRepository = studentJpaRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.studentEmailFilter = studentEmailFilter;
+        this.studentSuggestions = studentSuggestions;
+        this.recentWrites = recentWrites;
+        this.eventLog = eventLog;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public Student insert(Student student) {
+        final KeyHolder keyHolder = new GeneratedKeyHolder();
+        final long version = versionClock.next();
+        try {
+            jdbcTemplate.update(connection -> {
+                final PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+                statement.setString(1, student.getFirstName());
+                statement.setString(2, student.getLastName());
+                statement.setString(3, student.getEmail());
+                statement.setString(4, StudentSearchIndex.emailDomainOf(student.getEmail()));
+                statement.setLong(5, version);
+                return statement;
+            }, keyHolder);
+        } catch (DuplicateKeyException ex) {
+            throw duplicateEmail("Email " + student.getEmail() + " already exists", ex);
+        }
+        studentEmailFilter.add(student.getEmail());
+        final Student created = withVersion(keyHolder.getKey().longValue(), student, version);
+        eventLog.append(StudentChangeEvent.Type.CREATED, List.of(created));
+        studentSuggestions.put(created);
+        recentWrites.record(created.getStudentId());
+        forgetFlights(List.of(created.getStudentId()));
+        return created;
     }
 
     @Override
-    @SuppressWarnings("null") // Spring Data JPA save() contract guarantees non-null return
-    public Student save(Student student) {
-        StudentJpaEntity entity = toJpaEntity(student);
-        StudentJpaEntity saved = studentJpaRepository.save(entity);
-        return toDomainModel(saved);
+    public Optional<Student> update(Student student) {
+        final long version = versionClock.next();
+        final int rows;
+        try {
+            rows = jdbcTemplate.update(UPDATE_SQL, student.getFirstName(), student.getLastName(), student.getEmail(),
+                    StudentSearchIndex.emailDomainOf(student.getEmail()), version, student.getStudentId());
+        } catch (DuplicateKeyException ex) {
+            throw duplicateEmail("Email " + student.getEmail() + " already exists", ex);
+        }
+        if (rows == 0) {
+            return Optional.empty();
+        }
+        studentEmailFilter.add(student.getEmail());
+        final Student updated = withVersion(student.getStudentId(), student, version);
+        eventLog.append(StudentChangeEvent.Type.UPDATED, List.of(updated));
+        studentSuggestions.put(updated);
+        recentWrites.record(updated.getStudentId());
+        forgetFlights(List.of(updated.getStudentId()));
+        return Optional.of(updated);
     }
 
     @Override
     @SuppressWarnings("null") // findById parameter is validated by caller, Long is non-null primitive wrapper
     public Optional<Student> findById(Long id) {
-        return studentJpaRepository.findById(id)
-                .map(this::toDomainModel);
+        // Inside a transaction, or a student (or client) that wrote within the read-your-writes window:
+        // read directly, which outside a read-only transaction means the primary.
+        if (TransactionSynchronizationManager.isActualTransactionActive() || ReadYourWrites.isPinned()
+                || recentWrites.contains(id)) {
+            return studentJpaRepository.findById(id).map(this::toDomainModel);
+        }
+        // Concurrent lookups of one ID share a query; each caller gets its own copy of the mutable student.
+        // The read-only transaction is opened by the caller that runs the query, so waiting callers hold no connection.
+        return findByIdFlights.run(id, () -> readOnlyTransaction.execute(
+                        status -> studentJpaRepository.findById(id).map(this::toDomainModel)))
+                .map(this::copy);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Student> findAll() {
         return studentJpaRepository.findAll().stream()
                 .map(this::toDomainModel)
@@ -40,31 +159,287 @@ public class StudentRepositoryAdapter implements StudentRepositoryPort {
     }
 
     @Override
-    @SuppressWarnings("null") // deleteById parameter is validated by caller, Long is non-null primitive wrapper
-    public void deleteById(Long id) {
-        studentJpaRepository.deleteById(id);
+    @Transactional(readOnly = true)
+    public List<Student> findPageAfter(Long afterId, int limit) {
+        final long lowerBound = afterId == null ? Long.MIN_VALUE : afterId;
+        return studentJpaRepository.findByStudentIdGreaterThanOrderByStudentIdAsc(lowerBound, Limit.of(limit)).stream()
+                .map(this::toDomainModel)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Student> findAll(Set<StudentField> fields) {
+        return studentJpaRepository.findProjected(attributes(fields), null, Limit.unlimited()).stream()
+                .map(row -> toDomainModel(row, fields))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Student> findPageAfter(Long afterId, int limit, Set<StudentField> fields) {
+        final long lowerBound = afterId == null ? Long.MIN_VALUE : afterId;
+        return studentJpaRepository.findProjected(attributes(fields), lowerBound, Limit.of(limit)).stream()
+                .map(row -> toDomainModel(row, fields))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StudentSearchResult search(StudentSearchCriteria criteria) {
+        final StudentSearchIndex.Plan plan = StudentSearchIndex.plan(criteria);
+        final String emailDomain = criteria.getEmailDomainPrefix() == null
+                ? null : criteria.getEmailDomainPrefix().toLowerCase(Locale.ROOT);
+        final List<Student> students = studentJpaRepository.search(
+                        StudentSearchIndex.likePrefix(criteria.getLastNamePrefix()),
+                        StudentSearchIndex.likePrefix(criteria.getFirstNamePrefix()),
+                        StudentSearchIndex.likePrefix(emailDomain),
+                        StudentSearchIndex.sort(criteria),
+                        Limit.of(criteria.getLimit())).stream()
+                .map(this::toDomainModel)
+                .collect(Collectors.toList());
+        return new StudentSearchResult(students, plan.index(), plan.indexed());
+    }
+
+    @Override
+    public List<Student> suggest(String query, int limit) {
+        if (studentSuggestions.isReady()) {
+            return studentSuggestions.suggest(query, limit);
+        }
+        return search(new StudentSearchCriteria(query, null, null, StudentSearchCriteria.SortField.LAST_NAME, false, limit))
+                .getStudents();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Student> consumer) {
+        try (Stream<StudentJpaEntity> entities = studentJpaRepository.streamAllByOrderByStudentIdAsc()) {
+            entities.forEach(entity -> {
+                consumer.accept(toDomainModel(entity));
+                entityManager.detach(entity);
+            });
+        }
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        final boolean deleted = jdbcTemplate.update(DELETE_SQL, id) > 0;
+        if (deleted) {
+            eventLog.append(StudentChangeEvent.Type.DELETED,
+                    List.of(Student.rehydrate(id, null, null, null, versionClock.next())));
+            studentSuggestions.remove(id);
+            recentWrites.record(id);
+            forgetFlights(List.of(id));
+        }
+        return deleted;
+    }
+
+    @Override
+    public int deleteAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        eventLog.appendDeleted(ids, versionClock.next());
+        final String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        final int deleted = jdbcTemplate.update(String.format(DELETE_ALL_SQL, placeholders), ids.toArray());
+        studentSuggestions.removeAll(ids);
+        recentWrites.recordAll(ids);
+        forgetFlights(List.copyOf(ids));
+        return deleted;
     }
 
     @Override
     public boolean existsByEmail(String email) {
-        return studentJpaRepository.existsByEmail(email);
+        if (!studentEmailFilter.mightContain(email)) {
+            return false;
+        }
+        final boolean exists = studentJpaRepository.existsByEmail(email);
+        studentEmailFilter.recordDatabaseAnswer(exists);
+        return exists;
+    }
+
+    @Override
+    public Map<String, Long> findIdsByEmails(Collection<String> emails) {
+        final List<String> candidates = emails.stream()
+                .filter(studentEmailFilter::mightContain)
+                .collect(Collectors.toList());
+        if (candidates.isEmpty()) {
+            return Map.of();
+        }
+        return studentJpaRepository.findByEmailIn(candidates).stream()
+                .collect(Collectors.toMap(StudentEmailView::getEmail, StudentEmailView::getStudentId));
     }
 
-    private StudentJpaEntity toJpaEntity(Student student) {
-        StudentJpaEntity entity = new StudentJpaEntity();
-        entity.setStudentId(student.getStudentId());
-        entity.setFirstName(student.getFirstName());
-        entity.setLastName(student.getLastName());
-        entity.setEmail(student.getEmail());
-        return entity;
+    @Override
+    public List<Student> insertAll(List<Student> students) {
+        if (students.isEmpty()) {
+            return List.of();
+        }
+        final long version = versionClock.next();
+        final Savepoint savepoint = savepoint();
+        final List<Student> inserted;
+        try {
+            inserted = jdbcTemplate.execute(
+                    connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                    (PreparedStatement statement) -> {
+                        for (Student student : students) {
+                            statement.setString(1, student.getFirstName());
+                            statement.setString(2, student.getLastName());
+                            statement.setString(3, student.getEmail());
+                            statement.setString(4, StudentSearchIndex.emailDomainOf(student.getEmail()));
+                            statement.setLong(5, version);
+                            statement.addBatch();
+                        }
+                        statement.executeBatch();
+                        students.forEach(student -> studentEmailFilter.add(student.getEmail()));
+                        final List<Student> created = new ArrayList<>(students.size());
+                        try (ResultSet keys = statement.getGeneratedKeys()) {
+                            for (Student student : students) {
+                                keys.next();
+                                created.add(withVersion(keys.getLong(1), student, version));
+                            }
+                        }
+                        created.forEach(studentSuggestions::put);
+                        created.forEach(student -> recentWrites.record(student.getStudentId()));
+                        return created;
+                    });
+        } catch (DuplicateKeyException ex) {
+            throw batchDuplicateEmail(savepoint, ex);
+        }
+        eventLog.append(StudentChangeEvent.Type.CREATED, inserted);
+        forgetFlights(inserted.stream().map(Student::getStudentId).collect(Collectors.toList()));
+        return inserted;
     }
 
-    private Student toDomainModel(StudentJpaEntity entity) {
-        return new Student(
+    @Override
+    public List<Student> updateAll(List<Student> students) {
+        if (students.isEmpty()) {
+            return List.of();
+        }
+        final long version = versionClock.next();
+        final Savepoint savepoint = savepoint();
+        final int[][] counts;
+        try {
+            counts = jdbcTemplate.batchUpdate(UPDATE_SQL, students, students.size(), (statement, student) -> {
+                statement.setString(1, student.getFirstName());
+                statement.setString(2, student.getLastName());
+                statement.setString(3, student.getEmail());
+                statement.setString(4, StudentSearchIndex.emailDomainOf(student.getEmail()));
+                statement.setLong(5, version);
+                statement.setLong(6, student.getStudentId());
+            });
+        } catch (DuplicateKeyException ex) {
+            throw batchDuplicateEmail(savepoint, ex);
+        }
+        final List<Student> updated = new ArrayList<>();
+        for (int i = 0; i < students.size(); i++) {
+            final int count = counts[0][i];
+            if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                final Student student = students.get(i);
+                final Student saved = withVersion(student.getStudentId(), student, version);
+                updated.add(saved);
+                studentEmailFilter.add(student.getEmail());
+                studentSuggestions.put(saved);
+                recentWrites.record(saved.getStudentId());
+            }
+        }
+        eventLog.append(StudentChangeEvent.Type.UPDATED, updated);
+        forgetFlights(updated.stream().map(Student::getStudentId).collect(Collectors.toList()));
+        return updated;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StudentCollectionVersion findCollectionVersion() {
+        return jdbcTemplate.queryForObject(COLLECTION_VERSION_SQL,
+                // SUM of BIGINT is a DECIMAL; longValue() keeps its low 64 bits, i.e. the sum modulo 2^64.
+                (resultSet, rowNum) -> new StudentCollectionVersion(resultSet.getBigDecimal(1).longValue(),
+                        resultSet.getLong(2)));
+    }
+
+    // A findById query that started before this write may return the old row (or none), and the
+    // student cache would keep it for its whole TTL. Later lookups must not join it: its flight is
+    // dropped now and again after commit, since a query started in between still reads the old row.
+    // This runs before CachingStudentRepositoryAdapter evicts, so its synchronization runs first too.
+    private void forgetFlights(final Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        ids.forEach(findByIdFlights::forget);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    ids.forEach(findByIdFlights::forget);
+                }
+            });
+        }
+    }
+
+    private DuplicateEmailException duplicateEmail(final String message, final DuplicateKeyException cause) {
+        final DuplicateEmailException exception = new DuplicateEmailException(message);
+        exception.initCause(cause);
+        return exception;
+    }
+
+    // A failed batch may leave some of its rows behind: the driver carries on past the failing row,
+    // and a rewritten batch is split into several statements at max_allowed_packet. Batches therefore
+    // start at a savepoint, so that a duplicate undoes the whole batch and StudentService can retry it
+    // row by row in the same transaction. Outside a transaction there is nothing to roll back to.
+    private Savepoint savepoint() {
+        return jdbcTemplate.execute((ConnectionCallback<Savepoint>) connection ->
+                connection.getAutoCommit() ? null : connection.setSavepoint());
+    }
+
+    private DuplicateEmailException batchDuplicateEmail(final Savepoint savepoint, final DuplicateKeyException ex) {
+        if (savepoint != null) {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                connection.rollback(savepoint);
+                return null;
+            });
+        }
+        // The batch was checked with findIdsByEmails, so the filter may have missed this email.
+        studentEmailFilter.invalidate();
+        return duplicateEmail("A student in the batch uses an email that is already registered", ex);
+    }
+
+    private Student withVersion(final Long studentId, final Student student, final long version) {
+        return Student.rehydrate(studentId, student.getFirstName(), student.getLastName(), student.getEmail(), version);
+    }
+
+    private Student copy(final Student student) {
+        return Student.rehydrate(student.getStudentId(), student.getFirstName(), student.getLastName(),
+                student.getEmail(), student.getVersion());
+    }
+
+    Student toDomainModel(StudentJpaEntity entity) {
+        return Student.rehydrate(
                 entity.getStudentId(),
                 entity.getFirstName(),
                 entity.getLastName(),
-                entity.getEmail()
+                entity.getEmail(),
+                entity.getVersion()
+        );
+    }
+
+    // Entity attribute names match the API field names.
+    private static List<String> attributes(final Set<StudentField> fields) {
+        final List<String> attributes = new ArrayList<>(fields.size());
+        for (final StudentField field : StudentField.values()) {
+            if (fields.contains(field)) {
+                attributes.add(field.getName());
+            }
+        }
+        return attributes;
+    }
+
+    private static Student toDomainModel(final Tuple row, final Set<StudentField> fields) {
+        return Student.rehydrate(
+                fields.contains(StudentField.STUDENT_ID) ? row.get("studentId", Long.class) : null,
+                fields.contains(StudentField.FIRST_NAME) ? row.get("firstName", String.class) : null,
+                fields.contains(StudentField.LAST_NAME) ? row.get("lastName", String.class) : null,
+                fields.contains(StudentField.EMAIL) ? row.get("email", String.class) : null,
+                fields.contains(StudentField.VERSION) ? row.get("version", Long.class) : null
         );
     }
 }
@@ -0,0 +1,90 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import com.example.course_api.domain.model.StudentSearchCriteria;
+import com.example.course_api.domain.model.StudentSearchCriteria.SortField;
+import org.springframework.data.domain.Sort;
+
+import java.util.Locale;
+
+/**
+ * The composite indexes behind {@code GET /api/v1/students/search} and how a search maps onto
+ * them. InnoDB secondary indexes end with the primary key, so {@code (last_name, first_name)} is
+ * also ordered by {@code student_id} and a prefix range on its leading column can return the
+ * first {@code limit} rows in sort order without a filesort.
+ */
+final class StudentSearchIndex {
+
+    static final String LAST_FIRST = "idx_students_last_first";
+    static final String FIRST_LAST = "idx_students_first_last";
+    static final String EMAIL_DOMAIN = "idx_students_email_domain";
+    static final String PRIMARY = "PRIMARY";
+
+    // Not a backslash: MySQL would read '\' in the ESCAPE clause as an escaped quote.
+    static final char LIKE_ESCAPE = '!';
+
+    record Plan(String index, boolean indexed) {
+    }
+
+    private StudentSearchIndex() {
+    }
+
+    /**
+     * The index MySQL should pick for the criteria, and whether it also yields the requested
+     * order. The leading filter decides the index: last name, then first name, then domain. This is
+     * worked out from the criteria alone, without {@code EXPLAIN}, so it is reported as a hint.
+     */
+    static Plan plan(final StudentSearchCriteria criteria) {
+        final SortField sortField = criteria.getSortField();
+        if (criteria.getLastNamePrefix() != null) {
+            return new Plan(LAST_FIRST, sortField == SortField.LAST_NAME);
+        }
+        if (criteria.getFirstNamePrefix() != null) {
+            return new Plan(FIRST_LAST, sortField == SortField.FIRST_NAME);
+        }
+        if (criteria.getEmailDomainPrefix() != null) {
+            return new Plan(EMAIL_DOMAIN, false);
+        }
+        return switch (sortField) {
+            case LAST_NAME -> new Plan(LAST_FIRST, true);
+            case FIRST_NAME -> new Plan(FIRST_LAST, true);
+            case STUDENT_ID -> new Plan(PRIMARY, true);
+        };
+    }
+
+    static Sort sort(final StudentSearchCriteria criteria) {
+        final Sort.Direction direction = criteria.isDescending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return switch (criteria.getSortField()) {
+            case LAST_NAME -> Sort.by(direction, "lastName", "firstName", "studentId");
+            case FIRST_NAME -> Sort.by(direction, "firstName", "lastName", "studentId");
+            case STUDENT_ID -> Sort.by(direction, "studentId");
+        };
+    }
+
+    /**
+     * {@code LIKE} pattern for a prefix, with {@code %}, {@code _} and the escape character
+     * escaped. {@code null} matches everything.
+     */
+    static String likePrefix(final String prefix) {
+        if (prefix == null) {
+            return "%";
+        }
+        final StringBuilder pattern = new StringBuilder(prefix.length() + 2);
+        for (int i = 0; i < prefix.length(); i++) {
+            final char c = prefix.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+
+    /**
+     * Value of the denormalised {@code email_domain} column: everything after the {@code @},
+     * lower-cased so prefix searches behave the same under any collation.
+     */
+    static String emailDomainOf(final String email) {
+        final int at = email.indexOf('@');
+        return at < 0 ? "" : email.substring(at + 1).toLowerCase(Locale.ROOT);
+    }
+}
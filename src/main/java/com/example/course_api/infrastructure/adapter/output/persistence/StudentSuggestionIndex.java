@@ -0,0 +1,473 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import com.example.course_api.domain.model.Student;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Edge n-gram index over the words of first name, last name and email, for type-ahead lookups.
+ *
+ * <p>Every word contributes its first 1..{@value #MAX_GRAM} characters (lower-cased, accents
+ * removed) as 64-bit FNV-1a grams. Each gram maps to a posting list of slots, stored as
+ * varint-encoded deltas in a {@code byte[]}, so an entry in a common gram costs one byte. Row
+ * data is stored column-wise in primitive arrays, and the display text of all rows is packed
+ * into a single UTF-8 {@code byte[]}. A row costs roughly 100 bytes plus its text, instead of a
+ * {@link Student} plus three {@link String}s. A query walks one posting list in slot order and
+ * stops after {@code limit} hits. Only multi-word queries and words longer than
+ * {@value #MAX_GRAM} characters need to decode a row to check it.
+ *
+ * <p>An update appends a new slot and leaves a tombstone in the old one. The owner rebuilds the
+ * index once tombstones outnumber live rows ({@link #needsCompaction()}).
+ */
+final class StudentSuggestionIndex {
+
+    static final int MAX_GRAM = 6;
+
+    private static final long TOMBSTONE = Long.MIN_VALUE;
+    private static final char FIELD_SEPARATOR = '\u001F';
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongIntMap slotsById;
+    private final GramPostings postings;
+
+    private long[] ids;
+    private long[] versions;
+    private int[] textEnds;
+    private byte[] text;
+    private int slots;
+    private int live;
+
+    StudentSuggestionIndex(final int expectedRows) {
+        final int capacity = Math.max(16, expectedRows);
+        this.ids = new long[capacity];
+        this.versions = new long[capacity];
+        this.textEnds = new int[capacity];
+        this.text = new byte[(int) Math.min(Integer.MAX_VALUE - 8, capacity * 48L)];
+        this.slotsById = new LongIntMap(capacity);
+        this.postings = new GramPostings();
+    }
+
+    void put(final long id, final String firstName, final String lastName, final String email, final long version) {
+        final byte[] encoded = (firstName + FIELD_SEPARATOR + lastName + FIELD_SEPARATOR + email)
+                .getBytes(StandardCharsets.UTF_8);
+        lock.writeLock().lock();
+        try {
+            final int previous = slotsById.get(id);
+            if (previous >= 0) {
+                ids[previous] = TOMBSTONE;
+                live--;
+            }
+            final int slot = append(id, version, encoded);
+            slotsById.put(id, slot);
+            live++;
+            addGrams(slot, firstName);
+            addGrams(slot, lastName);
+            addGrams(slot, email);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    boolean remove(final long id) {
+        lock.writeLock().lock();
+        try {
+            final int slot = slotsById.remove(id);
+            if (slot < 0) {
+                return false;
+            }
+            ids[slot] = TOMBSTONE;
+            live--;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} live rows where every word of the query is a prefix of some word of the
+     * row, in slot order (student ID order after a rebuild).
+     */
+    List<Student> suggest(final String query, final int limit) {
+        final List<String> terms = words(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String lookup = terms.get(0);
+        for (final String term : terms) {
+            if (Math.min(term.length(), MAX_GRAM) > Math.min(lookup.length(), MAX_GRAM)) {
+                lookup = term;
+            }
+        }
+        final boolean verify = terms.size() > 1 || lookup.length() > MAX_GRAM;
+        final long gram = gramHash(lookup, Math.min(lookup.length(), MAX_GRAM));
+        final List<Student> found = new ArrayList<>(Math.min(limit, 16));
+        lock.readLock().lock();
+        try {
+            final int list = postings.find(gram);
+            if (list < 0) {
+                return List.of();
+            }
+            final byte[] posting = postings.bytes(list);
+            final int length = postings.length(list);
+            int position = 0;
+            int slot = 0;
+            while (position < length && found.size() < limit) {
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = posting[position++];
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                slot += delta;
+                if (ids[slot] == TOMBSTONE) {
+                    continue;
+                }
+                final String[] fields = fields(slot);
+                if (verify && !matchesAll(terms, fields)) {
+                    continue;
+                }
+                found.add(Student.rehydrate(ids[slot], fields[0], fields[1], fields[2], versions[slot]));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return found;
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return live;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    boolean needsCompaction() {
+        lock.readLock().lock();
+        try {
+            return slots - live > Math.max(1_024, live);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Approximate heap footprint of the arrays (not object headers of the posting lists).
+     */
+    long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return (long) ids.length * Long.BYTES * 2 + (long) textEnds.length * Integer.BYTES + text.length
+                    + slotsById.estimatedBytes() + postings.estimatedBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> words(final String value) {
+        final String normalized = normalize(value);
+        final List<String> words = new ArrayList<>(4);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            final boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    private static String normalize(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                final String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+                return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+            }
+        }
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static long gramHash(final String word, final int length) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < length; i++) {
+            hash = (hash ^ word.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static boolean matchesAll(final List<String> terms, final String[] fields) {
+        final List<String> words = new ArrayList<>(8);
+        for (final String field : fields) {
+            words.addAll(words(field));
+        }
+        for (final String term : terms) {
+            boolean matched = false;
+            for (final String word : words) {
+                if (word.startsWith(term)) {
+                    matched = true;
+                    break;
+                }
+            }
+            if (!matched) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addGrams(final int slot, final String field) {
+        for (final String word : words(field)) {
+            long hash = FNV_OFFSET;
+            for (int i = 0; i < Math.min(word.length(), MAX_GRAM); i++) {
+                hash = (hash ^ word.charAt(i)) * FNV_PRIME;
+                postings.add(hash, slot);
+            }
+        }
+    }
+
+    private int append(final long id, final long version, final byte[] encoded) {
+        if (slots == ids.length) {
+            final int capacity = ids.length + (ids.length >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+            textEnds = Arrays.copyOf(textEnds, capacity);
+        }
+        final int start = textStart(slots);
+        if (start + encoded.length > text.length) {
+            text = Arrays.copyOf(text, Math.max(text.length + (text.length >> 1), start + encoded.length));
+        }
+        System.arraycopy(encoded, 0, text, start, encoded.length);
+        ids[slots] = id;
+        versions[slots] = version;
+        textEnds[slots] = start + encoded.length;
+        return slots++;
+    }
+
+    private int textStart(final int slot) {
+        return slot == 0 ? 0 : textEnds[slot - 1];
+    }
+
+    private String[] fields(final int slot) {
+        final int start = textStart(slot);
+        final String row = new String(text, start, textEnds[slot] - start, StandardCharsets.UTF_8);
+        final int first = row.indexOf(FIELD_SEPARATOR);
+        final int second = row.indexOf(FIELD_SEPARATOR, first + 1);
+        return new String[] {row.substring(0, first), row.substring(first + 1, second), row.substring(second + 1)};
+    }
+
+    // MurmurHash3 finalizer, spreading FNV hashes and IDs over the open-addressing tables.
+    private static int mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return (int) value;
+    }
+
+    /**
+     * Open-addressing {@code long -> int} map with linear probing and backward-shift deletion.
+     * Values are stored plus one so that zero marks an empty bucket.
+     */
+    private static final class LongIntMap {
+
+        private long[] keys;
+        private int[] values;
+        private int size;
+
+        LongIntMap(final int expectedSize) {
+            final int capacity = Integer.highestOneBit((int) Math.max(16, expectedSize * 3L / 2) - 1) << 1;
+            keys = new long[capacity];
+            values = new int[capacity];
+        }
+
+        int get(final long key) {
+            final int mask = keys.length - 1;
+            for (int i = mix(key) & mask; values[i] != 0; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i] - 1;
+                }
+            }
+            return -1;
+        }
+
+        void put(final long key, final int value) {
+            if ((size + 1) * 3L > keys.length * 2L) {
+                resize();
+            }
+            final int mask = keys.length - 1;
+            int i = mix(key) & mask;
+            while (values[i] != 0 && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (values[i] == 0) {
+                size++;
+            }
+            keys[i] = key;
+            values[i] = value + 1;
+        }
+
+        int remove(final long key) {
+            final int mask = keys.length - 1;
+            int i = mix(key) & mask;
+            while (values[i] != 0 && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (values[i] == 0) {
+                return -1;
+            }
+            final int removed = values[i] - 1;
+            values[i] = 0;
+            size--;
+            for (int j = (i + 1) & mask; values[j] != 0; j = (j + 1) & mask) {
+                final int home = mix(keys[j]) & mask;
+                final boolean movable = i <= j ? (home <= i || home > j) : (home <= i && home > j);
+                if (movable) {
+                    keys[i] = keys[j];
+                    values[i] = values[j];
+                    values[j] = 0;
+                    i = j;
+                }
+            }
+            return removed;
+        }
+
+        long estimatedBytes() {
+            return (long) keys.length * (Long.BYTES + Integer.BYTES);
+        }
+
+        private void resize() {
+            final long[] oldKeys = keys;
+            final int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldValues.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != 0) {
+                    put(oldKeys[i], oldValues[i] - 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gram hash to posting list. The table maps a gram to an index in {@code lists}. Each list
+     * holds ascending, distinct slots as varint-encoded gaps from the previous slot (the first
+     * gap is from zero).
+     */
+    private static final class GramPostings {
+
+        private static final int INITIAL_CAPACITY = 1_024;
+
+        private long[] keys = new long[INITIAL_CAPACITY];
+        private int[] refs = new int[INITIAL_CAPACITY];
+        private byte[][] lists = new byte[INITIAL_CAPACITY / 2][];
+        private int[] lengths = new int[INITIAL_CAPACITY / 2];
+        private int[] lastSlots = new int[INITIAL_CAPACITY / 2];
+        private int count;
+        private long postingBytes;
+
+        int find(final long gram) {
+            final int mask = keys.length - 1;
+            for (int i = mix(gram) & mask; refs[i] != 0; i = (i + 1) & mask) {
+                if (keys[i] == gram) {
+                    return refs[i] - 1;
+                }
+            }
+            return -1;
+        }
+
+        byte[] bytes(final int list) {
+            return lists[list];
+        }
+
+        int length(final int list) {
+            return lengths[list];
+        }
+
+        void add(final long gram, final int slot) {
+            int list = find(gram);
+            if (list < 0) {
+                list = create(gram);
+            }
+            int length = lengths[list];
+            if (length > 0 && lastSlots[list] == slot) {
+                return;
+            }
+            int gap = length == 0 ? slot : slot - lastSlots[list];
+            byte[] posting = lists[list];
+            if (length + 5 > posting.length) {
+                final int capacity = posting.length + Math.max(8, posting.length >> 1);
+                postingBytes += capacity - posting.length;
+                posting = Arrays.copyOf(posting, capacity);
+                lists[list] = posting;
+            }
+            while (gap >= 0x80) {
+                posting[length++] = (byte) (gap | 0x80);
+                gap >>>= 7;
+            }
+            posting[length++] = (byte) gap;
+            lengths[list] = length;
+            lastSlots[list] = slot;
+        }
+
+        long estimatedBytes() {
+            return (long) keys.length * (Long.BYTES + Integer.BYTES) + (long) lengths.length * Integer.BYTES * 2
+                    + postingBytes;
+        }
+
+        private int create(final long gram) {
+            if ((count + 1) * 2 > keys.length) {
+                resize();
+            }
+            if (count == lists.length) {
+                lists = Arrays.copyOf(lists, lists.length * 2);
+                lengths = Arrays.copyOf(lengths, lengths.length * 2);
+                lastSlots = Arrays.copyOf(lastSlots, lastSlots.length * 2);
+            }
+            final int list = count++;
+            lists[list] = new byte[8];
+            postingBytes += 8;
+            insert(gram, list);
+            return list;
+        }
+
+        private void insert(final long gram, final int list) {
+            final int mask = keys.length - 1;
+            int i = mix(gram) & mask;
+            while (refs[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = gram;
+            refs[i] = list + 1;
+        }
+
+        private void resize() {
+            final long[] oldKeys = keys;
+            final int[] oldRefs = refs;
+            keys = new long[oldKeys.length * 2];
+            refs = new int[oldRefs.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldRefs[i] != 0) {
+                    insert(oldKeys[i], oldRefs[i] - 1);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+public interface StudentSuggestionRow {
+    Long getStudentId();
+    String getFirstName();
+    String getLastName();
+    String getEmail();
+    Long getVersion();
+}
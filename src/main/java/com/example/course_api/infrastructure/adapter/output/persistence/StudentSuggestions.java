@@ -0,0 +1,208 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import com.example.course_api.domain.model.Student;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Owns the {@link StudentSuggestionIndex} behind {@code GET /api/v1/students/suggest}.
+ *
+ * <p>The index is built by streaming {@code tbl_students} once the application is ready, and
+ * rebuilt in the background when tombstones from updates and deletes outnumber live rows.
+ * Writes reach it through the repository adapter after their transaction commits, so a rolled
+ * back write is never suggested. Writes that arrive during a rebuild are replayed onto the new
+ * index before it is swapped in. Until the first build finishes, or when disabled,
+ * {@link #isReady()} is false and the adapter falls back to the database.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class StudentSuggestions {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentSuggestions.class);
+
+    private final StudentJpaRepository studentJpaRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "student-suggestions");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final ReentrantLock mutationLock = new ReentrantLock();
+    private final Timer rebuildTimer;
+
+    private volatile StudentSuggestionIndex active;
+    private List<Consumer<StudentSuggestionIndex>> replay;
+
+    public StudentSuggestions(StudentJpaRepository studentJpaRepository,
+                              PlatformTransactionManager transactionManager,
+                              ObjectProvider<MeterRegistry> meterRegistry,
+                              @Value("${app.students.suggest.enabled:true}") boolean enabled) {
+        this.studentJpaRepository = studentJpaRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.rebuildTimer = Timer.builder("students.suggest.index.rebuild")
+                .description("Time to rebuild the type-ahead index from the database")
+                .register(registry);
+        Gauge.builder("students.suggest.index.size", this, StudentSuggestions::indexedRows)
+                .description("Students in the type-ahead index")
+                .register(registry);
+        Gauge.builder("students.suggest.index.bytes", this, StudentSuggestions::indexBytes)
+                .description("Approximate heap used by the type-ahead index")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    public boolean isReady() {
+        return active != null;
+    }
+
+    public List<Student> suggest(String query, int limit) {
+        final StudentSuggestionIndex current = active;
+        return current == null ? List.of() : current.suggest(query, limit);
+    }
+
+    public void put(Student student) {
+        final long id = student.getStudentId();
+        final String firstName = student.getFirstName();
+        final String lastName = student.getLastName();
+        final String email = student.getEmail();
+        final long version = student.getVersion() == null ? 0L : student.getVersion();
+        afterCommit(index -> index.put(id, firstName, lastName, email, version));
+    }
+
+    public void remove(Long id) {
+        afterCommit(index -> index.remove(id));
+    }
+
+    public void removeAll(Collection<Long> ids) {
+        final List<Long> removed = List.copyOf(ids);
+        afterCommit(index -> removed.forEach(index::remove));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildExecutor.execute(this::rebuild);
+    }
+
+    public void rebuild() {
+        if (!enabled || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        mutationLock.lock();
+        try {
+            replay = new ArrayList<>();
+        } finally {
+            mutationLock.unlock();
+        }
+        try {
+            rebuildTimer.record(() -> {
+                final long rows = studentJpaRepository.count();
+                final int expectedRows = (int) Math.min(Integer.MAX_VALUE / 2, rows + rows / 8);
+                final StudentSuggestionIndex next = new StudentSuggestionIndex(expectedRows);
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<StudentSuggestionRow> students = studentJpaRepository.streamAllSuggestionRows()) {
+                        students.forEach(row -> next.put(row.getStudentId(), row.getFirstName(), row.getLastName(),
+                                row.getEmail(), row.getVersion() == null ? 0L : row.getVersion()));
+                    }
+                });
+                mutationLock.lock();
+                try {
+                    replay.forEach(mutation -> mutation.accept(next));
+                    active = next;
+                } finally {
+                    mutationLock.unlock();
+                }
+            });
+        } catch (RuntimeException ex) {
+            logger.warn("Could not rebuild the student suggestion index; suggestions fall back to the database", ex);
+        } finally {
+            mutationLock.lock();
+            try {
+                replay = null;
+            } finally {
+                mutationLock.unlock();
+            }
+            rebuilding.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private void afterCommit(final Consumer<StudentSuggestionIndex> mutation) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(mutation);
+                }
+            });
+        } else {
+            apply(mutation);
+        }
+    }
+
+    private void apply(final Consumer<StudentSuggestionIndex> mutation) {
+        final StudentSuggestionIndex current;
+        mutationLock.lock();
+        try {
+            current = active;
+            if (current != null) {
+                mutation.accept(current);
+            }
+            if (replay != null) {
+                replay.add(mutation);
+            }
+        } finally {
+            mutationLock.unlock();
+        }
+        if (current != null && current.needsCompaction() && !rebuilding.get()) {
+            rebuildExecutor.execute(this::rebuild);
+        }
+    }
+
+    private double indexedRows() {
+        final StudentSuggestionIndex current = active;
+        return current == null ? 0 : current.size();
+    }
+
+    private double indexBytes() {
+        final StudentSuggestionIndex current = active;
+        return current == null ? 0 : current.estimatedBytes();
+    }
+}
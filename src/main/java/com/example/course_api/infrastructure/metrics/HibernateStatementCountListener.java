@@ -0,0 +1,35 @@
+package com.example.course_api.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import org.hibernate.SessionEventListener;
+
+/**
+ * Records how many JDBC statements each Hibernate session executed as
+ * {@code hibernate.session.statements}. With open-in-view there is one session per request, so
+ * this is statements per request for everything that goes through JPA.
+ *
+ * <p>Hibernate instantiates one listener per session ({@code hibernate.session.events.auto}),
+ * so the summary lives on the global registry, which Spring Boot links to its own registries.
+ */
+public class HibernateStatementCountListener implements SessionEventListener {
+
+    private static final DistributionSummary STATEMENTS = DistributionSummary.builder("hibernate.session.statements")
+            .description("JDBC statements executed per Hibernate session")
+            .baseUnit("statements")
+            .publishPercentileHistogram()
+            .maximumExpectedValue(1_000.0)
+            .register(Metrics.globalRegistry);
+
+    private int statements;
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        statements++;
+    }
+
+    @Override
+    public void end() {
+        STATEMENTS.record(statements);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.course_api.infrastructure.metrics;
+
+import com.example.course_api.application.port.input.StudentUseCase;
+import com.example.course_api.application.port.output.StudentRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wraps every {@link StudentUseCase} and {@link StudentRepositoryPort} bean in its timed
+ * decorator. The bean name is used as the {@code component} tag, so with the cache enabled both
+ * the cached port the service sees and the database adapter behind it are timed.
+ *
+ * <p>The post-processor is deliberately unordered: it runs after the ordered proxy creators, so it
+ * wraps the transactional proxy rather than hiding the {@code @Transactional} methods from it.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.metrics.students.enabled", havingValue = "true", matchIfMissing = true)
+public class StudentMetricsConfig {
+
+    @Bean
+    static BeanPostProcessor studentMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof StudentUseCase useCase && !(bean instanceof TimedStudentUseCase)) {
+                    MeterRegistry registry = meterRegistry.getIfAvailable();
+                    return registry == null ? bean : new TimedStudentUseCase(useCase, registry, beanName);
+                }
+                if (bean instanceof StudentRepositoryPort port && !(bean instanceof TimedStudentRepositoryPort)) {
+                    MeterRegistry registry = meterRegistry.getIfAvailable();
+                    return registry == null ? bean : new TimedStudentRepositoryPort(port, registry, beanName);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.course_api.infrastructure.metrics;
+
+import com.example.course_api.application.port.output.StudentRepositoryPort;
+import com.example.course_api.domain.model.Student;
+import com.example.course_api.domain.model.StudentCollectionVersion;
+import com.example.course_api.domain.model.StudentField;
+import com.example.course_api.domain.model.StudentSearchCriteria;
+import com.example.course_api.domain.model.StudentSearchResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Records a {@code students.repository} timer (tagged with the wrapped bean and the method) around
+ * every {@link StudentRepositoryPort} call. Failed calls are timed as well.
+ */
+public class TimedStudentRepositoryPort implements StudentRepositoryPort {
+
+    static final String METRIC = "students.repository";
+
+    private final StudentRepositoryPort delegate;
+    private final Timer insert;
+    private final Timer update;
+    private final Timer findById;
+    private final Timer findAll;
+    private final Timer findPageAfter;
+    private final Timer findAllProjected;
+    private final Timer findPageAfterProjected;
+    private final Timer search;
+    private final Timer suggest;
+    private final Timer streamAll;
+    private final Timer deleteById;
+    private final Timer deleteAllById;
+    private final Timer existsByEmail;
+    private final Timer findIdsByEmails;
+    private final Timer insertAll;
+    private final Timer updateAll;
+    private final Timer findCollectionVersion;
+
+    public TimedStudentRepositoryPort(StudentRepositoryPort delegate, MeterRegistry registry, String component) {
+        this.delegate = delegate;
+        MethodTimers timers = new MethodTimers(registry, METRIC, "StudentRepositoryPort calls", component);
+        this.insert = timers.timer("insert");
+        this.update = timers.timer("update");
+        this.findById = timers.timer("findById");
+        this.findAll = timers.timer("findAll");
+        this.findPageAfter = timers.timer("findPageAfter");
+        this.findAllProjected = timers.timer("findAllProjected");
+        this.findPageAfterProjected = timers.timer("findPageAfterProjected");
+        this.search = timers.timer("search");
+        this.suggest = timers.timer("suggest");
+        this.streamAll = timers.timer("streamAll");
+        this.deleteById = timers.timer("deleteById");
+        this.deleteAllById = timers.timer("deleteAllById");
+        this.existsByEmail = timers.timer("existsByEmail");
+        this.findIdsByEmails = timers.timer("findIdsByEmails");
+        this.insertAll = timers.timer("insertAll");
+        this.updateAll = timers.timer("updateAll");
+        this.findCollectionVersion = timers.timer("findCollectionVersion");
+    }
+
+    @Override
+    public Student insert(Student student) {
+        final long start = System.nanoTime();
+        try {
+            return delegate.insert(student);
+        } finally {
+            insert.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public Optional<Student> update(Student student) {
+        final long start = System.nanoTime();
+        try {
+            return delegate.update(student);
+        } finally {
+            update.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public Optional<Student> findById(Long id) {
+        final long start = System.nanoTime();
+        try {
+            return delegate.findById(id);
+        } finally {
+            findById.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<Student> findAll() {
+        final long start = System.nanoTime();
+        try {
+            return delegate.findAll();
+        } finally {
+            findAll.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<Student> findPageAfter(Long afterId, int limit) {
+        final long start = System.nanoTime();
+        try {
+            return delegate.findPageAfter(afterId, limit);
+        } finally {
+            findPageAfter.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<Student> findAll(Set<StudentField> fields) {
+        final long start = System.nanoTime();
+        try {
+            return delegate.findAll(fields);
+        } finally {
+            findAllProjected.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<Student> findPageAfter(Long afterId, int limit, Set<StudentField> fields) {
+        final long start = System.nanoTime();
+        try {
+            return delegate.findPageAfter(afterId, limit, fields);
+        } finally {
+            findPageAfterProjected.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public StudentSearchResult search(StudentSearchCriteria criteria) {
+        final long start = System.nanoTime();
+        try {
+            return delegate.search(criteria);
+        } finally {
+            search.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<Student> suggest(String query, int limit) {
+        final long start = System.nanoTime();
+        try {
+            return delegate.suggest(query, limit);
+        } finally {
+            suggest.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void streamAll(Consumer<Student> consumer) {
+        final long start = System.nanoTime();
+        try {
+            delegate.streamAll(consumer);
+        } finally {
+            streamAll.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        final long start = System.nanoTime();
+        try {
+            return delegate.deleteById(id);
+        } finally {
+            deleteById.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public int deleteAllById(Collection<Long> ids) {
+        final long start = System.nanoTime();
+        try {
+            return delegate.deleteAllById(ids);
+        } finally {
+            deleteAllById.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        final long start = System.nanoTime();
+        try {
+            return delegate.existsByEmail(email);
+        } finally {
+            existsByEmail.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public Map<String, Long> findIdsByEmails(Collection<String> emails) {
+        final long start = System.nanoTime();
+        try {
+            return delegate.findIdsByEmails(emails);
+        } finally {
+            findIdsByEmails.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<Student> insertAll(List<Student> students) {
+        final long start = System.nanoTime();
+        try {
+            return delegate.insertAll(students);
+        } finally {
+            insertAll.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<Student> updateAll(List<Student> students) {
+        final long start = System.nanoTime();
+        try {
+            return delegate.updateAll(students);
+        } finally {
+            updateAll.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public StudentCollectionVersion findCollectionVersion() {
+        final long start = System.nanoTime();
+        try {
+            return delegate.findCollectionVersion();
+        } finally {
+            findCollectionVersion.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.course_api.infrastructure.metrics;
+
+import com.example.course_api.application.port.input.StudentUseCase;
+import com.example.course_api.domain.model.Student;
+import com.example.course_api.domain.model.StudentCollectionVersion;
+import com.example.course_api.domain.model.StudentField;
+import com.example.course_api.domain.model.StudentPage;
+import com.example.course_api.domain.model.StudentSearchCriteria;
+import com.example.course_api.domain.model.StudentSearchResult;
+import com.example.course_api.domain.model.StudentUpsertResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Records a {@code students.usecase} timer (tagged with the method) around every
+ * {@link StudentUseCase} call. Failed calls are timed as well.
+ */
+public class TimedStudentUseCase implements StudentUseCase {
+
+    static final String METRIC = "students.usecase";
+
+    private final StudentUseCase delegate;
+    private final Timer getAllStudents;
+    private final Timer getStudentsPage;
+    private final Timer getAllStudentsProjected;
+    private final Timer getStudentsPageProjected;
+    private final Timer searchStudents;
+    private final Timer suggestStudents;
+    private final Timer getStudentsVersion;
+    private final Timer exportStudents;
+    private final Timer getStudentById;
+    private final Timer createStudent;
+    private final Timer updateStudent;
+    private final Timer upsertStudents;
+    private final Timer deleteStudent;
+    private final Timer deleteStudents;
+
+    public TimedStudentUseCase(StudentUseCase delegate, MeterRegistry registry, String component) {
+        this.delegate = delegate;
+        MethodTimers timers = new MethodTimers(registry, METRIC, "StudentUseCase calls", component);
+        this.getAllStudents = timers.timer("getAllStudents");
+        this.getStudentsPage = timers.timer("getStudentsPage");
+        this.getAllStudentsProjected = timers.timer("getAllStudentsProjected");
+        this.getStudentsPageProjected = timers.timer("getStudentsPageProjected");
+        this.searchStudents = timers.timer("searchStudents");
+        this.suggestStudents = timers.timer("suggestStudents");
+        this.getStudentsVersion = timers.timer("getStudentsVersion");
+        this.exportStudents = timers.timer("exportStudents");
+        this.getStudentById = timers.timer("getStudentById");
+        this.createStudent = timers.timer("createStudent");
+        this.updateStudent = timers.timer("updateStudent");
+        this.upsertStudents = timers.timer("upsertStudents");
+        this.deleteStudent = timers.timer("deleteStudent");
+        this.deleteStudents = timers.timer("deleteStudents");
+    }
+
+    @Override
+    public List<Student> getAllStudents() {
+        final long start = System.nanoTime();
+        try {
+            return delegate.getAllStudents();
+        } finally {
+            getAllStudents.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public StudentPage getStudentsPage(Long afterId, int limit) {
+        final long start = System.nanoTime();
+        try {
+            return delegate.getStudentsPage(afterId, limit);
+        } finally {
+            getStudentsPage.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<Student> getAllStudents(Set<StudentField> fields) {
+        final long start = System.nanoTime();
+        try {
+            return delegate.getAllStudents(fields);
+        } finally {
+            getAllStudentsProjected.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public StudentPage getStudentsPage(Long afterId, int limit, Set<StudentField> fields) {
+        final long start = System.nanoTime();
+        try {
+            return delegate.getStudentsPage(afterId, limit, fields);
+        } finally {
+            getStudentsPageProjected.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public StudentSearchResult searchStudents(StudentSearchCriteria criteria) {
+        final long start = System.nanoTime();
+        try {
+            return delegate.searchStudents(criteria);
+        } finally {
+            searchStudents.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<Student> suggestStudents(String query, int limit) {
+        final long start = System.nanoTime();
+        try {
+            return delegate.suggestStudents(query, limit);
+        } finally {
+            suggestStudents.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public StudentCollectionVersion getStudentsVersion() {
+        final long start = System.nanoTime();
+        try {
+            return delegate.getStudentsVersion();
+        } finally {
+            getStudentsVersion.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void exportStudents(Consumer<Student> consumer) {
+        final long start = System.nanoTime();
+        try {
+            delegate.exportStudents(consumer);
+        } finally {
+            exportStudents.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public Optional<Student> getStudentById(Long id) {
+        final long start = System.nanoTime();
+        try {
+            return delegate.getStudentById(id);
+        } finally {
+            getStudentById.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public Student createStudent(Student student) {
+        final long start = System.nanoTime();
+        try {
+            return delegate.createStudent(student);
+        } finally {
+            createStudent.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public Student updateStudent(Long id, Student student) {
+        final long start = System.nanoTime();
+        try {
+            return delegate.updateStudent(id, student);
+        } finally {
+            updateStudent.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<StudentUpsertResult> upsertStudents(List<Student> students) {
+        final long start = System.nanoTime();
+        try {
+            return delegate.upsertStudents(students);
+        } finally {
+            upsertStudents.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void deleteStudent(Long id) {
+        final long start = System.nanoTime();
+        try {
+            delegate.deleteStudent(id);
+        } finally {
+            deleteStudent.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public int deleteStudents(Collection<Long> ids) {
+        final long start = System.nanoTime();
+        try {
+            return delegate.deleteStudents(ids);
+        } finally {
+            deleteStudents.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
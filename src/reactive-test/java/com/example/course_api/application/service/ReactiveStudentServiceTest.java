@@ -0,0 +1,96 @@
+package com.example.course_api.application.service;
+
+import com.example.course_api.application.port.output.ReactiveStudentRepositoryPort;
+import com.example.course_api.domain.exception.DuplicateEmailException;
+import com.example.course_api.domain.exception.StudentNotFoundException;
+import com.example.course_api.domain.model.Student;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests for ReactiveStudentService (Hexagonal Architecture)")
+class ReactiveStudentServiceTest {
+
+    @Mock
+    private ReactiveStudentRepositoryPort studentRepositoryPort;
+
+    @Mock
+    private MessageSource messageSource;
+
+    @InjectMocks
+    private ReactiveStudentService studentService;
+
+    @Test
+    @DisplayName("Should fetch one extra row to decide whether there is a next page")
+    void testGetStudentsPage() {
+        Student first = new Student(1L, "Juan", "Pérez", "juan.perez@email.com");
+        Student second = new Student(2L, "María", "González", "maria.gonzalez@email.com");
+        when(studentRepositoryPort.findPageAfter(null, 2)).thenReturn(Flux.just(first, second));
+
+        StepVerifier.create(studentService.getStudentsPage(null, 1))
+                .assertNext(page -> {
+                    assertEquals(1, page.getStudents().size());
+                    assertEquals(1L, page.getNextAfterId());
+                })
+                .verifyComplete();
+        verify(studentRepositoryPort, times(1)).findPageAfter(null, 2);
+    }
+
+    @Test
+    @DisplayName("Should localize duplicate-email errors with the locale from the Reactor context")
+    @SuppressWarnings("null") // MessageSource.getMessage is guaranteed non-null
+    void testCreateStudent_DuplicateEmail() {
+        Student student = new Student("Juan", "Pérez", "juan.perez@email.com");
+        when(studentRepositoryPort.insert(student)).thenReturn(Mono.error(new DuplicateEmailException("duplicate")));
+        when(messageSource.getMessage(eq("Email.student.unique"), any(), eq(new Locale("es"))))
+                .thenReturn("ya existe");
+
+        StepVerifier.create(studentService.createStudent(student)
+                        .contextWrite(Context.of(Locale.class, new Locale("es"))))
+                .expectErrorMatches(ex -> ex instanceof DuplicateEmailException && ex.getMessage().contains("ya existe"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should fail with StudentNotFoundException when the update matches no row")
+    @SuppressWarnings("null") // MessageSource.getMessage is guaranteed non-null
+    void testUpdateStudent_NotFound() {
+        when(studentRepositoryPort.update(any(Student.class))).thenReturn(Mono.empty());
+        when(messageSource.getMessage(anyString(), any(), any())).thenReturn("Student not found");
+
+        StepVerifier.create(studentService.updateStudent(999L, new Student("Pedro", "García", "pedro.garcia@email.com")))
+                .expectError(StudentNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should fail with StudentNotFoundException when the delete matches no row")
+    @SuppressWarnings("null") // MessageSource.getMessage is guaranteed non-null
+    void testDeleteStudent_NotFound() {
+        when(studentRepositoryPort.deleteById(999L)).thenReturn(Mono.just(false));
+        when(messageSource.getMessage(anyString(), any(), any())).thenReturn("Student not found");
+
+        StepVerifier.create(studentService.deleteStudent(999L))
+                .expectError(StudentNotFoundException.class)
+                .verify();
+        verify(studentRepositoryPort, never()).findPageAfter(any(), anyInt());
+    }
+}
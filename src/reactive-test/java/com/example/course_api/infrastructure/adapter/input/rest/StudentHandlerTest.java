@@ -0,0 +1,178 @@
+package com.example.course_api.infrastructure.adapter.input.rest;
+
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentRequest;
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@SpringBootTest(properties = {
+        "spring.main.web-application-type=reactive",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactivestudents;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.username=sa",
+        "spring.r2dbc.password=",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:reactive-schema.sql",
+        "app.controller.enabled=false"
+})
+@AutoConfigureWebTestClient
+@ActiveProfiles("reactive")
+@DisplayName("Tests for the WebFlux student handlers over R2DBC (H2 in-memory)")
+class StudentHandlerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM tbl_students").fetch().rowsUpdated().block();
+    }
+
+    @Test
+    @DisplayName("POST then GET /api/v1/students/{id} - Should create, read and honour If-None-Match")
+    void testCreateAndGetById() {
+        StudentResponse created = create("Juan", "Pérez", "juan.perez@email.com");
+        assertNotNull(created.getStudentId());
+        assertNotNull(created.getVersion());
+        String etag = "\"" + created.getVersion() + "\"";
+
+        webTestClient.get().uri("/api/v1/students/{id}", created.getStudentId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", etag)
+                .expectBody()
+                .jsonPath("$.email").isEqualTo("juan.perez@email.com");
+
+        webTestClient.get().uri("/api/v1/students/{id}", created.getStudentId())
+                .header("If-None-Match", etag)
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/students - Should reject duplicate emails and invalid bodies")
+    void testCreateRejected() {
+        create("Juan", "Pérez", "juan.perez@email.com");
+
+        webTestClient.post().uri("/api/v1/students")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new StudentRequest("Otro", "Pérez", "juan.perez@email.com"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.email").exists();
+
+        webTestClient.post().uri("/api/v1/students")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new StudentRequest("", "Pérez", "not-an-email"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.firstName").exists()
+                .jsonPath("$.email").exists();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/students - Should stream every student as a JSON array")
+    void testGetAll() {
+        create("Juan", "Pérez", "juan.perez@email.com");
+        create("María", "González", "maria.gonzalez@email.com");
+
+        List<StudentResponse> students = webTestClient.get().uri("/api/v1/students")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(StudentResponse.class)
+                .returnResult().getResponseBody();
+
+        assertNotNull(students);
+        assertEquals(2, students.size());
+        assertEquals("maria.gonzalez@email.com", students.get(1).getEmail());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/students?limit= - Should page with a cursor")
+    void testGetPage() {
+        create("Juan", "Pérez", "juan.perez@email.com");
+        create("María", "González", "maria.gonzalez@email.com");
+
+        webTestClient.get().uri("/api/v1/students?limit=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.students.length()").isEqualTo(1)
+                .jsonPath("$.nextCursor").isNotEmpty();
+
+        webTestClient.get().uri("/api/v1/students?limit=10&after=not-a-cursor")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.after").exists();
+    }
+
+    @Test
+    @DisplayName("PUT and DELETE /api/v1/students/{id} - Should update, delete and report missing students")
+    void testUpdateAndDelete() {
+        StudentResponse created = create("Juan", "Pérez", "juan.perez@email.com");
+
+        webTestClient.put().uri("/api/v1/students/{id}", created.getStudentId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new StudentRequest("Pedro", "García", "pedro.garcia@email.com"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.firstName").isEqualTo("Pedro");
+
+        webTestClient.put().uri("/api/v1/students/{id}", 999)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new StudentRequest("Pedro", "García", "pedro.garcia@email.com"))
+                .exchange()
+                .expectStatus().isNotFound();
+
+        webTestClient.delete().uri("/api/v1/students/{id}", created.getStudentId())
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.delete().uri("/api/v1/students/{id}", created.getStudentId())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/students?ids= - Should delete in bulk and report the count")
+    void testDeleteAll() {
+        StudentResponse first = create("Juan", "Pérez", "juan.perez@email.com");
+        StudentResponse second = create("María", "González", "maria.gonzalez@email.com");
+
+        webTestClient.delete()
+                .uri("/api/v1/students?ids={a},{b},999", first.getStudentId(), second.getStudentId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.deleted").isEqualTo(2);
+    }
+
+    private StudentResponse create(String firstName, String lastName, String email) {
+        return webTestClient.post().uri("/api/v1/students")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new StudentRequest(firstName, lastName, email))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(StudentResponse.class)
+                .returnResult().getResponseBody();
+    }
+}
@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS tbl_students (
+    student_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    first_name VARCHAR(255) NOT NULL,
+    last_name VARCHAR(255) NOT NULL,
+    email_address VARCHAR(255) NOT NULL UNIQUE,
+    email_domain VARCHAR(255) DEFAULT '' NOT NULL,
+    version BIGINT DEFAULT 0 NOT NULL
+);
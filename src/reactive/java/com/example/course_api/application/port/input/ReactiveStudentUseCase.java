@@ -0,0 +1,18 @@
+package com.example.course_api.application.port.input;
+
+import com.example.course_api.domain.model.Student;
+import com.example.course_api.domain.model.StudentPage;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+public interface ReactiveStudentUseCase {
+    Flux<Student> getAllStudents();
+    Mono<StudentPage> getStudentsPage(Long afterId, int limit);
+    Mono<Student> getStudentById(Long id);
+    Mono<Student> createStudent(Student student);
+    Mono<Student> updateStudent(Long id, Student student);
+    Mono<Void> deleteStudent(Long id);
+    Mono<Integer> deleteStudents(Collection<Long> ids);
+}
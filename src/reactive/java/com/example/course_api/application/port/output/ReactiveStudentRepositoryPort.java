@@ -0,0 +1,17 @@
+package com.example.course_api.application.port.output;
+
+import com.example.course_api.domain.model.Student;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+public interface ReactiveStudentRepositoryPort {
+    Mono<Student> insert(Student student);
+    Mono<Student> update(Student student);
+    Mono<Student> findById(Long id);
+    Flux<Student> findAll();
+    Flux<Student> findPageAfter(Long afterId, int limit);
+    Mono<Boolean> deleteById(Long id);
+    Mono<Integer> deleteAllById(Collection<Long> ids);
+}
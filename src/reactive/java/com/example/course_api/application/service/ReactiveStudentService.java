@@ -0,0 +1,101 @@
+package com.example.course_api.application.service;
+
+import com.example.course_api.application.port.input.ReactiveStudentUseCase;
+import com.example.course_api.application.port.output.ReactiveStudentRepositoryPort;
+import com.example.course_api.domain.exception.DuplicateEmailException;
+import com.example.course_api.domain.exception.StudentNotFoundException;
+import com.example.course_api.domain.model.Student;
+import com.example.course_api.domain.model.StudentPage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Non-blocking counterpart of {@link StudentService}, active when the application runs as a
+ * reactive web application (the {@code reactive} profile).
+ *
+ * <p>There is no thread-bound locale here, so callers put the request {@link Locale} into the
+ * Reactor context and error messages are localized from it.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveStudentService implements ReactiveStudentUseCase {
+
+    private final ReactiveStudentRepositoryPort studentRepositoryPort;
+    private final MessageSource messageSource;
+
+    public ReactiveStudentService(ReactiveStudentRepositoryPort studentRepositoryPort, MessageSource messageSource) {
+        this.studentRepositoryPort = studentRepositoryPort;
+        this.messageSource = messageSource;
+    }
+
+    @Override
+    public Flux<Student> getAllStudents() {
+        return studentRepositoryPort.findAll();
+    }
+
+    @Override
+    public Mono<StudentPage> getStudentsPage(final Long afterId, final int limit) {
+        final int pageSize = Math.max(1, Math.min(limit, StudentService.MAX_PAGE_SIZE));
+        return studentRepositoryPort.findPageAfter(afterId, pageSize + 1)
+                .collectList()
+                .map(fetched -> {
+                    if (fetched.size() <= pageSize) {
+                        return new StudentPage(fetched, null);
+                    }
+                    final List<Student> page = fetched.subList(0, pageSize);
+                    return new StudentPage(page, page.get(pageSize - 1).getStudentId());
+                });
+    }
+
+    @Override
+    public Mono<Student> getStudentById(final Long id) {
+        return studentRepositoryPort.findById(id);
+    }
+
+    @Override
+    public Mono<Student> createStudent(final Student student) {
+        return studentRepositoryPort.insert(student)
+                .onErrorResume(DuplicateEmailException.class, ex -> duplicateEmail(student.getEmail()));
+    }
+
+    @Override
+    public Mono<Student> updateStudent(final Long id, final Student student) {
+        final Student changes = new Student(id, student.getFirstName(), student.getLastName(), student.getEmail());
+        return studentRepositoryPort.update(changes)
+                .onErrorResume(DuplicateEmailException.class, ex -> duplicateEmail(student.getEmail()))
+                .switchIfEmpty(studentNotFound());
+    }
+
+    @Override
+    public Mono<Void> deleteStudent(final Long id) {
+        return studentRepositoryPort.deleteById(id)
+                .flatMap(deleted -> deleted ? Mono.<Void>empty() : studentNotFound());
+    }
+
+    @Override
+    public Mono<Integer> deleteStudents(final Collection<Long> ids) {
+        return studentRepositoryPort.deleteAllById(ids);
+    }
+
+    private <T> Mono<T> duplicateEmail(final String email) {
+        return localizedMessage("Email.student.unique")
+                .flatMap(message -> Mono.error(new DuplicateEmailException(email, message)));
+    }
+
+    private <T> Mono<T> studentNotFound() {
+        return localizedMessage("Student.notfound")
+                .flatMap(message -> Mono.error(new StudentNotFoundException(message)));
+    }
+
+    private Mono<String> localizedMessage(final String code) {
+        return Mono.deferContextual(context -> Mono.just(
+                messageSource.getMessage(code, null, context.getOrDefault(Locale.class, Locale.getDefault()))));
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.course_api.infrastructure.adapter.input.rest;
+
+import com.example.course_api.application.port.input.ReactiveStudentUseCase;
+import com.example.course_api.domain.exception.DuplicateEmailException;
+import com.example.course_api.domain.exception.StudentNotFoundException;
+import com.example.course_api.domain.model.Student;
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentPageResponse;
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentRequest;
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentResponse;
+import com.example.course_api.infrastructure.adapter.input.rest.exception.InvalidCursorException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * WebFlux handlers mirroring {@link StudentController} for the {@code reactive} profile. Lists are
+ * written as the rows arrive, so the response is bounded by client demand, not collected first.
+ * Error bodies use the same shape as the servlet {@code GlobalExceptionHandler}.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class StudentHandler {
+
+    private static final int MAX_BULK_DELETE = 1_000;
+
+    private final ReactiveStudentUseCase studentUseCase;
+    private final Validator validator;
+
+    public StudentHandler(ReactiveStudentUseCase studentUseCase, Validator validator) {
+        this.studentUseCase = studentUseCase;
+        this.validator = validator;
+    }
+
+    public Mono<ServerResponse> getAll(ServerRequest request) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(studentUseCase.getAllStudents().map(this::toResponse), StudentResponse.class);
+    }
+
+    public Mono<ServerResponse> getPage(ServerRequest request) {
+        return handle(request, Mono.defer(() -> {
+            Long afterId = StudentCursorCodec.decode(request.queryParam("after").orElse(null));
+            int limit = Integer.parseInt(request.queryParam("limit").orElseThrow());
+            return studentUseCase.getStudentsPage(afterId, limit)
+                    .flatMap(page -> ServerResponse.ok().bodyValue(new StudentPageResponse(
+                            page.getStudents().stream().map(this::toResponse).toList(),
+                            StudentCursorCodec.encode(page.getNextAfterId()))));
+        }));
+    }
+
+    public Mono<ServerResponse> export(ServerRequest request) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(studentUseCase.getAllStudents().map(this::toResponse), StudentResponse.class);
+    }
+
+    public Mono<ServerResponse> getById(ServerRequest request) {
+        return handle(request, Mono.defer(() -> studentUseCase.getStudentById(studentId(request)))
+                .flatMap(student -> {
+                    String etag = StudentETags.of(student);
+                    return request.checkNotModified(etag)
+                            .map(Mono::just)
+                            .orElseGet(() -> ServerResponse.ok().eTag(etag).bodyValue(toResponse(student)));
+                })
+                .switchIfEmpty(ServerResponse.notFound().build()));
+    }
+
+    public Mono<ServerResponse> create(ServerRequest request) {
+        return handle(request, validBody(request)
+                .map(body -> new Student(body.getFirstName(), body.getLastName(), body.getEmail()))
+                .flatMap(studentUseCase::createStudent)
+                .flatMap(created -> ServerResponse.status(HttpStatus.CREATED)
+                        .eTag(StudentETags.of(created))
+                        .bodyValue(toResponse(created))));
+    }
+
+    public Mono<ServerResponse> update(ServerRequest request) {
+        return handle(request, validBody(request)
+                .map(body -> new Student(body.getFirstName(), body.getLastName(), body.getEmail()))
+                .flatMap(student -> studentUseCase.updateStudent(studentId(request), student))
+                .flatMap(updated -> ServerResponse.ok()
+                        .eTag(StudentETags.of(updated))
+                        .bodyValue(toResponse(updated))));
+    }
+
+    public Mono<ServerResponse> delete(ServerRequest request) {
+        return handle(request, Mono.defer(() -> studentUseCase.deleteStudent(studentId(request)))
+                .then(ServerResponse.noContent().build()));
+    }
+
+    public Mono<ServerResponse> deleteAll(ServerRequest request) {
+        return handle(request, Mono.defer(() -> {
+            Set<Long> ids = new LinkedHashSet<>();
+            request.queryParams().getOrDefault("ids", List.of()).stream()
+                    .flatMap(value -> Arrays.stream(value.split(",")))
+                    .filter(value -> !value.isBlank())
+                    .forEach(value -> ids.add(Long.valueOf(value.trim())));
+            if (ids.isEmpty() || ids.size() > MAX_BULK_DELETE) {
+                return ServerResponse.badRequest().bodyValue(
+                        Map.of("ids", "Between 1 and " + MAX_BULK_DELETE + " IDs are required"));
+            }
+            return studentUseCase.deleteStudents(ids)
+                    .flatMap(deleted -> ServerResponse.ok().bodyValue(Map.of("deleted", deleted)));
+        }));
+    }
+
+    private Mono<StudentRequest> validBody(ServerRequest request) {
+        return request.bodyToMono(StudentRequest.class)
+                .switchIfEmpty(Mono.error(() -> new InvalidRequestException(Map.of("body", "Request body is required"))))
+                .flatMap(body -> {
+                    Set<ConstraintViolation<StudentRequest>> violations = validator.validate(body);
+                    if (violations.isEmpty()) {
+                        return Mono.just(body);
+                    }
+                    Map<String, String> errors = new HashMap<>();
+                    violations.forEach(violation ->
+                            errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+                    return Mono.error(new InvalidRequestException(errors));
+                });
+    }
+
+    private Mono<ServerResponse> handle(ServerRequest request, Mono<ServerResponse> response) {
+        Locale locale = request.exchange().getLocaleContext().getLocale();
+        return response
+                .onErrorResume(InvalidRequestException.class,
+                        ex -> error(HttpStatus.BAD_REQUEST, ex.errors))
+                .onErrorResume(StudentNotFoundException.class,
+                        ex -> error(HttpStatus.NOT_FOUND, Map.of("error", ex.getMessage())))
+                .onErrorResume(DuplicateEmailException.class,
+                        ex -> error(HttpStatus.BAD_REQUEST, Map.of("email", ex.getMessage())))
+                .onErrorResume(InvalidCursorException.class,
+                        ex -> error(HttpStatus.BAD_REQUEST, Map.of("after", ex.getMessage())))
+                .onErrorResume(NumberFormatException.class,
+                        ex -> error(HttpStatus.BAD_REQUEST, Map.of("error", "Invalid number: " + ex.getMessage())))
+                .onErrorResume(IllegalArgumentException.class,
+                        ex -> error(HttpStatus.BAD_REQUEST, Map.of("email", String.valueOf(ex.getMessage()))))
+                .contextWrite(Context.of(Locale.class, locale != null ? locale : Locale.getDefault()));
+    }
+
+    private Mono<ServerResponse> error(HttpStatus status, Map<String, String> errors) {
+        return ServerResponse.status(status).contentType(MediaType.APPLICATION_JSON).bodyValue(errors);
+    }
+
+    private Long studentId(ServerRequest request) {
+        return Long.valueOf(request.pathVariable("studentId"));
+    }
+
+    private StudentResponse toResponse(Student student) {
+        return new StudentResponse(
+                student.getStudentId(),
+                student.getFirstName(),
+                student.getLastName(),
+                student.getEmail(),
+                student.getVersion()
+        );
+    }
+
+    private static final class InvalidRequestException extends RuntimeException {
+        private final transient Map<String, String> errors;
+
+        private InvalidRequestException(Map<String, String> errors) {
+            super(errors.toString());
+            this.errors = errors;
+        }
+    }
+}
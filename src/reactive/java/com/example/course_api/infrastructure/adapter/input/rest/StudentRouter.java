@@ -0,0 +1,30 @@
+package com.example.course_api.infrastructure.adapter.input.rest;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.queryParam;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class StudentRouter {
+
+    @Bean
+    public RouterFunction<ServerResponse> studentRoutes(StudentHandler handler) {
+        return route()
+                .path("/api/v1/students", builder -> builder
+                        .GET("/export", handler::export)
+                        .GET("/{studentId}", handler::getById)
+                        .GET(queryParam("limit", limit -> true), handler::getPage)
+                        .GET(handler::getAll)
+                        .POST(handler::create)
+                        .PUT("/{studentId}", handler::update)
+                        .DELETE("/{studentId}", handler::delete)
+                        .DELETE(queryParam("ids", ids -> true), handler::deleteAll))
+                .build();
+    }
+}
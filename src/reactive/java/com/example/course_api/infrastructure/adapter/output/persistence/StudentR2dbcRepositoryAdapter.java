@@ -0,0 +1,146 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import com.example.course_api.application.port.output.ReactiveStudentRepositoryPort;
+import com.example.course_api.domain.exception.DuplicateEmailException;
+import com.example.course_api.domain.model.Student;
+import io.r2dbc.spi.Readable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * R2DBC implementation of {@link ReactiveStudentRepositoryPort} over the same {@code tbl_students}
+ * table and version stamps as {@link StudentRepositoryAdapter}. Reads are streamed row by row,
+ * so downstream demand controls how much is fetched.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class StudentR2dbcRepositoryAdapter implements ReactiveStudentRepositoryPort {
+
+    private static final String COLUMNS = "student_id, first_name, last_name, email_address, version";
+    private static final String INSERT_SQL = "INSERT INTO tbl_students "
+            + "(first_name, last_name, email_address, email_domain, version) "
+            + "VALUES (:firstName, :lastName, :email, :emailDomain, :version)";
+    private static final String UPDATE_SQL = "UPDATE tbl_students "
+            + "SET first_name = :firstName, last_name = :lastName, email_address = :email, "
+            + "email_domain = :emailDomain, version = :version "
+            + "WHERE student_id = :id";
+    private static final String SELECT_BY_ID_SQL = "SELECT " + COLUMNS + " FROM tbl_students WHERE student_id = :id";
+    private static final String SELECT_ALL_SQL = "SELECT " + COLUMNS + " FROM tbl_students ORDER BY student_id";
+    private static final String SELECT_PAGE_SQL = "SELECT " + COLUMNS + " FROM tbl_students "
+            + "WHERE student_id > :afterId ORDER BY student_id LIMIT :limit";
+    private static final String DELETE_SQL = "DELETE FROM tbl_students WHERE student_id = :id";
+    private static final String DELETE_ALL_SQL = "DELETE FROM tbl_students WHERE student_id IN (:ids)";
+
+    private final DatabaseClient databaseClient;
+    private final StudentVersionClock versionClock = new StudentVersionClock();
+
+    public StudentR2dbcRepositoryAdapter(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Student> insert(Student student) {
+        return Mono.defer(() -> {
+            final long version = versionClock.next();
+            return databaseClient.sql(INSERT_SQL)
+                    .bind("firstName", student.getFirstName())
+                    .bind("lastName", student.getLastName())
+                    .bind("email", student.getEmail())
+                    .bind("emailDomain", StudentSearchIndex.emailDomainOf(student.getEmail()))
+                    .bind("version", version)
+                    .filter(statement -> statement.returnGeneratedValues("student_id"))
+                    .map(row -> row.get(0, Long.class))
+                    .one()
+                    .map(id -> withVersion(id, student, version));
+        }).onErrorMap(DuplicateKeyException.class, ex -> duplicateEmail(student.getEmail(), ex));
+    }
+
+    @Override
+    public Mono<Student> update(Student student) {
+        return Mono.defer(() -> {
+            final long version = versionClock.next();
+            return databaseClient.sql(UPDATE_SQL)
+                    .bind("firstName", student.getFirstName())
+                    .bind("lastName", student.getLastName())
+                    .bind("email", student.getEmail())
+                    .bind("emailDomain", StudentSearchIndex.emailDomainOf(student.getEmail()))
+                    .bind("version", version)
+                    .bind("id", student.getStudentId())
+                    .fetch()
+                    .rowsUpdated()
+                    .filter(rows -> rows > 0)
+                    .map(rows -> withVersion(student.getStudentId(), student, version));
+        }).onErrorMap(DuplicateKeyException.class, ex -> duplicateEmail(student.getEmail(), ex));
+    }
+
+    @Override
+    public Mono<Student> findById(Long id) {
+        return databaseClient.sql(SELECT_BY_ID_SQL)
+                .bind("id", id)
+                .map(this::toDomainModel)
+                .one();
+    }
+
+    @Override
+    public Flux<Student> findAll() {
+        return databaseClient.sql(SELECT_ALL_SQL)
+                .map(this::toDomainModel)
+                .all();
+    }
+
+    @Override
+    public Flux<Student> findPageAfter(Long afterId, int limit) {
+        return databaseClient.sql(SELECT_PAGE_SQL)
+                .bind("afterId", afterId == null ? 0L : afterId)
+                .bind("limit", limit)
+                .map(this::toDomainModel)
+                .all();
+    }
+
+    @Override
+    public Mono<Boolean> deleteById(Long id) {
+        return databaseClient.sql(DELETE_SQL)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .map(rows -> rows > 0);
+    }
+
+    @Override
+    public Mono<Integer> deleteAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(0);
+        }
+        return databaseClient.sql(DELETE_ALL_SQL)
+                .bind("ids", ids)
+                .fetch()
+                .rowsUpdated()
+                .map(Long::intValue);
+    }
+
+    private DuplicateEmailException duplicateEmail(final String email, final DuplicateKeyException cause) {
+        final DuplicateEmailException exception = new DuplicateEmailException("Email " + email + " already exists");
+        exception.initCause(cause);
+        return exception;
+    }
+
+    private Student withVersion(final Long studentId, final Student student, final long version) {
+        return Student.rehydrate(studentId, student.getFirstName(), student.getLastName(), student.getEmail(), version);
+    }
+
+    private Student toDomainModel(Readable row) {
+        return Student.rehydrate(
+                row.get("student_id", Long.class),
+                row.get("first_name", String.class),
+                row.get("last_name", String.class),
+                row.get("email_address", String.class),
+                row.get("version", Long.class)
+        );
+    }
+}
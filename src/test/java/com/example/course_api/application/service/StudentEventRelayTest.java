@@ -0,0 +1,327 @@
+package com.example.course_api.application.service;
+
+import com.example.course_api.application.port.input.StudentEventFeedUseCase;
+import com.example.course_api.application.port.output.StudentEventLogPort;
+import com.example.course_api.domain.model.Student;
+import com.example.course_api.domain.model.StudentChangeEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests for StudentEventRelay")
+class StudentEventRelayTest {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    private final InMemoryEventLog eventLog = new InMemoryEventLog();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should relay only changes committed after startup, in order, to every subscriber")
+    void testRelaysNewEventsToEverySubscriber() {
+        eventLog.append(1);
+        StudentEventRelay relay = relay(10, Duration.ofSeconds(10), DIRECT);
+        RecordingListener first = new RecordingListener();
+        RecordingListener second = new RecordingListener();
+        relay.subscribe(null, first);
+        relay.subscribe(null, second);
+
+        eventLog.append(2);
+        eventLog.append(3);
+        assertEquals(2, relay.relay());
+
+        assertEquals(List.of(2L, 3L), first.eventIds);
+        assertEquals(List.of(2L, 3L), second.eventIds);
+        assertEquals(1, eventLog.reads, "one outbox read for both subscribers");
+        assertEquals(2.0, meterRegistry.get("students.events.relayed").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should replay the events after Last-Event-ID from the outbox, then continue live without duplicates")
+    void testResumesFromLastEventId() {
+        StudentEventRelay relay = relay(10, Duration.ofSeconds(10), DIRECT);
+        eventLog.append(1);
+        eventLog.append(2);
+        eventLog.append(3);
+        relay.relay();
+        RecordingListener listener = new RecordingListener();
+
+        relay.subscribe(1L, listener);
+        eventLog.append(4);
+        relay.relay();
+
+        assertEquals(List.of(2L, 3L, 4L), listener.eventIds);
+        assertEquals(0, listener.resets);
+    }
+
+    @Test
+    @DisplayName("Should read a resuming subscriber's backlog without holding up the relay, then add what it relayed meanwhile")
+    void testReadsBacklogWithoutBlockingRelay() {
+        StudentEventRelay relay = relay(10, Duration.ofSeconds(10), DIRECT);
+        eventLog.append(1);
+        eventLog.append(2);
+        eventLog.append(3);
+        relay.relay();
+        RecordingListener live = new RecordingListener();
+        RecordingListener resumed = new RecordingListener();
+        relay.subscribe(null, live);
+        AtomicBoolean relayedDuringRead = new AtomicBoolean();
+        eventLog.onRead = () -> {
+            eventLog.append(4);
+            Thread relayThread = new Thread(relay::relay);
+            relayThread.start();
+            try {
+                relayThread.join(5_000);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            relayedDuringRead.set(!relayThread.isAlive());
+        };
+
+        relay.subscribe(1L, resumed);
+
+        assertTrue(relayedDuringRead.get(), "the relay ran while the backlog was being read");
+        assertEquals(List.of(4L), live.eventIds);
+        assertEquals(List.of(2L, 3L, 4L), resumed.eventIds);
+    }
+
+    @Test
+    @DisplayName("Should skip events a subscriber saw on another instance that this instance has not relayed yet")
+    void testResumesAheadOfRelay() {
+        StudentEventRelay relay = relay(10, Duration.ofSeconds(10), DIRECT);
+        relay.initialize();
+        RecordingListener listener = new RecordingListener();
+        eventLog.append(1);
+        eventLog.append(2);
+        eventLog.append(3);
+
+        relay.subscribe(2L, listener);
+        relay.relay();
+
+        assertEquals(List.of(3L), listener.eventIds);
+    }
+
+    @Test
+    @DisplayName("Should ask the subscriber to reload when its last event was pruned or the gap exceeds its buffer")
+    void testResetWhenBacklogUnavailable() {
+        StudentEventRelay small = relay(2, Duration.ofSeconds(10), DIRECT);
+        StudentEventRelay large = relay(10, Duration.ofSeconds(10), DIRECT);
+        for (long id = 1; id <= 4; id++) {
+            eventLog.append(id);
+        }
+        small.relay();
+        large.relay();
+
+        RecordingListener behind = new RecordingListener();
+        small.subscribe(1L, behind);
+        eventLog.events.remove(0);
+        RecordingListener pruned = new RecordingListener();
+        large.subscribe(1L, pruned);
+        eventLog.append(5);
+        small.relay();
+        large.relay();
+
+        assertEquals(1, behind.resets);
+        assertEquals(List.of(5L), behind.eventIds);
+        assertEquals(1, pruned.resets);
+        assertEquals(List.of(5L), pruned.eventIds);
+    }
+
+    @Test
+    @DisplayName("Should close a subscriber whose buffer overflows without holding up the others")
+    void testClosesSubscriberOnOverflow() {
+        StudentEventRelay relay = relay(2, Duration.ofSeconds(10), DIRECT);
+        List<Runnable> stalled = new ArrayList<>();
+        StudentEventRelay stalledRelay = relay(2, Duration.ofSeconds(10), stalled::add);
+        RecordingListener slow = new RecordingListener();
+        RecordingListener fast = new RecordingListener();
+        stalledRelay.subscribe(null, slow);
+        relay.subscribe(null, fast);
+
+        eventLog.append(1);
+        eventLog.append(2);
+        eventLog.append(3);
+        stalledRelay.relay();
+        relay.relay();
+
+        assertTrue(slow.closed);
+        assertEquals(List.of(1L, 2L, 3L), fast.eventIds);
+        assertEquals(1.0, meterRegistry.get("students.events.overflows").counter().count());
+        stalled.forEach(Runnable::run);
+        assertTrue(slow.eventIds.isEmpty(), "a closed subscriber gets nothing more");
+    }
+
+    @Test
+    @DisplayName("Should relay past a missing ID at once and send its event late if it commits within the gap timeout")
+    void testRelaysLateEventsBehindGaps() {
+        StudentEventRelay relay = relay(10, Duration.ofSeconds(10), DIRECT);
+        RecordingListener listener = new RecordingListener();
+        relay.subscribe(null, listener);
+
+        eventLog.append(1);
+        eventLog.append(3);
+        relay.relay();
+        assertEquals(List.of(1L, 3L), listener.eventIds);
+
+        eventLog.append(2);
+        relay.relay();
+        assertEquals(List.of(1L, 3L, 2L), listener.eventIds);
+        assertEquals(0.0, meterRegistry.get("students.events.skipped").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should relay every event exactly once when writes commit out of event ID order")
+    void testRelaysWritesCommittedOutOfOrder() throws InterruptedException {
+        StudentEventRelay relay = relay(100, Duration.ofMinutes(1), DIRECT);
+        relay.initialize();
+        RecordingListener listener = new RecordingListener();
+        relay.subscribe(null, listener);
+        List<Long> commitOrder = new ArrayList<>();
+        for (long id = 1; id <= 40; id++) {
+            commitOrder.add(id);
+        }
+        Collections.shuffle(commitOrder, new Random(42));
+
+        for (int i = 0; i < commitOrder.size(); i += 3) {
+            commitOrder.subList(i, Math.min(i + 3, commitOrder.size())).forEach(eventLog::append);
+            relay.relay();
+        }
+        // Missing IDs are read again once a second; none can time out within the minute.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (listener.eventIds.size() < 40 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            relay.relay();
+        }
+
+        assertEquals(40, listener.eventIds.size());
+        assertEquals(40, new HashSet<>(listener.eventIds).size());
+        assertEquals(0.0, meterRegistry.get("students.events.skipped").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should give up on a missing ID after the gap timeout and count it as skipped")
+    void testSkipsGapsAfterTimeout() {
+        StudentEventRelay relay = relay(10, Duration.ZERO, DIRECT);
+        RecordingListener listener = new RecordingListener();
+        relay.subscribe(null, listener);
+
+        eventLog.append(1);
+        eventLog.append(4);
+        relay.relay();
+        relay.relay();
+        eventLog.append(2);
+        relay.relay();
+
+        assertEquals(List.of(1L, 4L), listener.eventIds);
+        assertEquals(2.0, meterRegistry.get("students.events.skipped").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should unsubscribe a listener that fails and close the rest on shutdown")
+    void testUnsubscribesFailedListenersAndClosesOnShutdown() throws InterruptedException {
+        StudentEventRelay relay = relay(10, Duration.ofSeconds(10), DIRECT);
+        RecordingListener failing = new RecordingListener();
+        failing.failing = true;
+        RecordingListener healthy = new RecordingListener();
+        relay.subscribe(null, failing);
+        relay.subscribe(null, healthy);
+
+        eventLog.append(1);
+        eventLog.append(2);
+        relay.relay();
+        relay.shutdown();
+
+        assertEquals(List.of(1L, 2L), healthy.eventIds);
+        assertTrue(healthy.closed);
+        assertFalse(failing.closed);
+        assertEquals(0.0, meterRegistry.get("students.events.subscribers").gauge().value());
+    }
+
+    private StudentEventRelay relay(int subscriberBuffer, Duration gapTimeout, Executor sender) {
+        return new StudentEventRelay(eventLog, meterRegistry, Duration.ofMillis(10), 100, subscriberBuffer,
+                gapTimeout, Duration.ofHours(1), sender);
+    }
+
+    private static final class InMemoryEventLog implements StudentEventLogPort {
+
+        private final List<StudentChangeEvent> events = new ArrayList<>();
+        private int reads;
+        // Runs once, after the next findAfter has taken its snapshot.
+        private Runnable onRead;
+
+        void append(long eventId) {
+            events.add(new StudentChangeEvent(eventId, StudentChangeEvent.Type.UPDATED,
+                    Student.rehydrate(eventId, "First", "Last", "student" + eventId + "@email.com", eventId)));
+            events.sort((a, b) -> Long.compare(a.getEventId(), b.getEventId()));
+        }
+
+        @Override
+        public List<StudentChangeEvent> findAfter(long eventId, int limit) {
+            reads++;
+            List<StudentChangeEvent> found = events.stream()
+                    .filter(event -> event.getEventId() > eventId).limit(limit).toList();
+            Runnable hook = onRead;
+            onRead = null;
+            if (hook != null) {
+                hook.run();
+            }
+            return found;
+        }
+
+        @Override
+        public List<StudentChangeEvent> findByIds(Collection<Long> eventIds) {
+            reads++;
+            return events.stream().filter(event -> eventIds.contains(event.getEventId())).toList();
+        }
+
+        @Override
+        public long findLatestEventId() {
+            return events.isEmpty() ? 0 : events.get(events.size() - 1).getEventId();
+        }
+
+        @Override
+        public int deleteOlderThan(Instant cutoff) {
+            return 0;
+        }
+    }
+
+    private static final class RecordingListener implements StudentEventFeedUseCase.Listener {
+
+        private final List<Long> eventIds = new ArrayList<>();
+        private int resets;
+        private boolean closed;
+        private boolean failing;
+
+        @Override
+        public void onEvent(StudentChangeEvent event) {
+            if (failing) {
+                throw new IllegalStateException("client went away");
+            }
+            eventIds.add(event.getEventId());
+        }
+
+        @Override
+        public void onReset() {
+            resets++;
+        }
+
+        @Override
+        public void onClose() {
+            closed = true;
+        }
+    }
+}
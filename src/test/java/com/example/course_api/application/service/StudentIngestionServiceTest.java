@@ -0,0 +1,233 @@
+package com.example.course_api.application.service;
+
+import com.example.course_api.application.port.input.StudentUseCase;
+import com.example.course_api.domain.exception.DuplicateEmailException;
+import com.example.course_api.domain.exception.IngestionQueueFullException;
+import com.example.course_api.domain.model.Student;
+import com.example.course_api.domain.model.StudentIngestion;
+import com.example.course_api.domain.model.StudentUpsertResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests for StudentIngestionService")
+class StudentIngestionServiceTest {
+
+    @Mock
+    private StudentUseCase studentUseCase;
+
+    @Mock
+    private MessageSource messageSource;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(messageSource.getMessage(anyString(), any(), any(Locale.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("Should queue a student without writing it and reject a second submit of the same email")
+    void testSubmitQueuesAndReservesEmail() {
+        StudentIngestionService service = service(10, 10, 100);
+
+        StudentIngestion queued = service.submitStudent(new Student("Juan", "Pérez", "juan.perez@email.com"));
+
+        assertEquals(StudentIngestion.Status.QUEUED, queued.getStatus());
+        assertSame(queued, service.getIngestion(queued.getTrackingId()).orElseThrow());
+        assertThrows(DuplicateEmailException.class,
+                () -> service.submitStudent(new Student("Juan", "Pérez", "JUAN.PEREZ@email.com")));
+        assertTrue(service.getIngestion("unknown").isEmpty());
+        verifyNoInteractions(studentUseCase);
+    }
+
+    @Test
+    @DisplayName("Should reject with IngestionQueueFullException when the queue is full and release the email")
+    void testSubmitWhenQueueFull() {
+        StudentIngestionService service = service(1, 10, 100);
+        stubUpsertCreates();
+        service.submitStudent(new Student("Juan", "Pérez", "juan.perez@email.com"));
+
+        assertThrows(IngestionQueueFullException.class,
+                () -> service.submitStudent(new Student("María", "González", "maria.gonzalez@email.com")));
+
+        service.flush();
+        StudentIngestion retried = service.submitStudent(new Student("María", "González", "maria.gonzalez@email.com"));
+        assertEquals(StudentIngestion.Status.QUEUED, retried.getStatus());
+    }
+
+    @Test
+    @DisplayName("Should write students in acceptance order, one batch at a time, and record their IDs")
+    void testFlushWritesBatchesInOrder() {
+        StudentIngestionService service = service(10, 2, 100);
+        stubUpsertCreates();
+        StudentIngestion first = service.submitStudent(new Student("Ana", "López", "ana@email.com"));
+        StudentIngestion second = service.submitStudent(new Student("Bea", "Ruiz", "bea@email.com"));
+        StudentIngestion third = service.submitStudent(new Student("Carla", "Díaz", "carla@email.com"));
+
+        assertEquals(2, service.flush());
+
+        verify(studentUseCase).upsertStudents(argThat(students -> students.size() == 2
+                && "ana@email.com".equals(students.get(0).getEmail())
+                && "bea@email.com".equals(students.get(1).getEmail())));
+        StudentIngestion created = service.getIngestion(first.getTrackingId()).orElseThrow();
+        assertEquals(StudentIngestion.Status.CREATED, created.getStatus());
+        assertEquals(1L, created.getStudent().getStudentId());
+        assertEquals(2L, service.getIngestion(second.getTrackingId()).orElseThrow().getStudent().getStudentId());
+        assertEquals(StudentIngestion.Status.QUEUED, service.getIngestion(third.getTrackingId()).orElseThrow().getStatus());
+
+        // the email is free again once its student is written
+        assertEquals(StudentIngestion.Status.QUEUED,
+                service.submitStudent(new Student("Ana", "López", "ana@email.com")).getStatus());
+    }
+
+    @Test
+    @DisplayName("Should mark a student DUPLICATE when its email already exists in the database")
+    void testFlushMarksDatabaseDuplicates() {
+        StudentIngestionService service = service(10, 10, 100);
+        Student existing = new Student(7L, "Juan", "Pérez", "juan.perez@email.com");
+        when(studentUseCase.upsertStudents(anyList()))
+                .thenReturn(List.of(new StudentUpsertResult(existing, StudentUpsertResult.Status.DUPLICATE)));
+        StudentIngestion queued = service.submitStudent(new Student("Juan", "Pérez", "juan.perez@email.com"));
+
+        service.flush();
+
+        StudentIngestion duplicate = service.getIngestion(queued.getTrackingId()).orElseThrow();
+        assertEquals(StudentIngestion.Status.DUPLICATE, duplicate.getStatus());
+        assertEquals("Email.student.unique", duplicate.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should write students one at a time when their batch fails as a whole")
+    void testFlushFallsBackToSingleWrites() {
+        StudentIngestionService service = service(10, 10, 100);
+        when(studentUseCase.upsertStudents(anyList())).thenThrow(new IllegalStateException("deadlock"));
+        when(studentUseCase.createStudent(any(Student.class)))
+                .thenReturn(new Student(1L, "Ana", "López", "ana@email.com", 0L))
+                .thenThrow(new DuplicateEmailException("bea@email.com", "Email is already registered"))
+                .thenThrow(new IllegalStateException("data too long"));
+        StudentIngestion ana = service.submitStudent(new Student("Ana", "López", "ana@email.com"));
+        StudentIngestion bea = service.submitStudent(new Student("Bea", "Ruiz", "bea@email.com"));
+        StudentIngestion carla = service.submitStudent(new Student("Carla", "Díaz", "carla@email.com"));
+
+        service.flush();
+
+        assertEquals(StudentIngestion.Status.CREATED, service.getIngestion(ana.getTrackingId()).orElseThrow().getStatus());
+        assertEquals(StudentIngestion.Status.DUPLICATE, service.getIngestion(bea.getTrackingId()).orElseThrow().getStatus());
+        StudentIngestion failed = service.getIngestion(carla.getTrackingId()).orElseThrow();
+        assertEquals(StudentIngestion.Status.FAILED, failed.getStatus());
+        assertEquals("data too long", failed.getMessage());
+        verify(studentUseCase, times(3)).createStudent(any(Student.class));
+    }
+
+    @Test
+    @DisplayName("Should write every queued student on shutdown and stop accepting new ones")
+    void testShutdownDrainsQueue() throws InterruptedException {
+        StudentIngestionService service = service(10, 2, 100);
+        stubUpsertCreates();
+        List<StudentIngestion> queued = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            queued.add(service.submitStudent(new Student("First" + i, "Last" + i, "student" + i + "@email.com")));
+        }
+
+        service.shutdown();
+
+        verify(studentUseCase, times(3)).upsertStudents(anyList());
+        for (StudentIngestion ingestion : queued) {
+            assertEquals(StudentIngestion.Status.CREATED,
+                    service.getIngestion(ingestion.getTrackingId()).orElseThrow().getStatus());
+        }
+        assertThrows(IngestionQueueFullException.class,
+                () -> service.submitStudent(new Student("Late", "Comer", "late@email.com")));
+    }
+
+    @Test
+    @DisplayName("Should write a student whose submit was under way when shutdown began")
+    void testShutdownWaitsForSubmitInProgress() throws InterruptedException {
+        StudentIngestionService service = service(10, 10, 100);
+        stubUpsertCreates();
+        CountDownLatch submitting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Student student = new Student("Late", "Comer", "late@email.com") {
+            @Override
+            public String getEmail() {
+                submitting.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.getEmail();
+            }
+        };
+        AtomicReference<StudentIngestion> queued = new AtomicReference<>();
+        Thread submit = new Thread(() -> queued.set(service.submitStudent(student)));
+        submit.start();
+        submitting.await();
+
+        Thread shutdown = new Thread(() -> {
+            try {
+                service.shutdown();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        shutdown.start();
+        shutdown.join(200);
+        release.countDown();
+        submit.join();
+        shutdown.join();
+
+        assertEquals(StudentIngestion.Status.CREATED,
+                service.getIngestion(queued.get().getTrackingId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("Should keep statuses only for the most recently finished students")
+    void testStatusRetention() {
+        StudentIngestionService service = service(10, 10, 1);
+        stubUpsertCreates();
+        StudentIngestion first = service.submitStudent(new Student("Ana", "López", "ana@email.com"));
+        StudentIngestion second = service.submitStudent(new Student("Bea", "Ruiz", "bea@email.com"));
+
+        service.flush();
+
+        assertTrue(service.getIngestion(first.getTrackingId()).isEmpty());
+        assertTrue(service.getIngestion(second.getTrackingId()).isPresent());
+    }
+
+    private StudentIngestionService service(int queueCapacity, int batchSize, int statusRetention) {
+        return new StudentIngestionService(studentUseCase, messageSource, queueCapacity, batchSize, statusRetention, false);
+    }
+
+    // Creates every student of the batch with consecutive IDs starting at 1.
+    private void stubUpsertCreates() {
+        long[] nextId = {1L};
+        when(studentUseCase.upsertStudents(anyList())).thenAnswer(invocation -> {
+            List<Student> students = invocation.getArgument(0);
+            List<StudentUpsertResult> results = new ArrayList<>();
+            for (Student student : students) {
+                Student created = new Student(nextId[0]++, student.getFirstName(), student.getLastName(),
+                        student.getEmail(), 0L);
+                results.add(new StudentUpsertResult(created, StudentUpsertResult.Status.CREATED));
+            }
+            return results;
+        });
+    }
+}
@@ -4,6 +4,11 @@ import com.example.course_api.application.port.output.StudentRepositoryPort;
 import com.example.course_api.domain.exception.DuplicateEmailException;
 import com.example.course_api.domain.exception.StudentNotFoundException;
 import com.example.course_api.domain.model.Student;
+import com.example.course_api.domain.model.StudentField;
+import com.example.course_api.domain.model.StudentPage;
+import com.example.course_api.domain.model.StudentSearchCriteria;
+import com.example.course_api.domain.model.StudentSearchResult;
+import com.example.course_api.domain.model.StudentUpsertResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -14,12 +19,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
 
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -55,6 +64,77 @@ class StudentServiceTest {
         verify(studentRepositoryPort, times(1)).findAll();
     }
     
+    @Test
+    @DisplayName("Should return a page and the cursor of its last student when more rows exist")
+    void testGetStudentsPage_HasNext() {
+        Student second = new Student(2L, "María", "González", "maria.gonzalez@email.com");
+        Student third = new Student(3L, "Pedro", "García", "pedro.garcia@email.com");
+        when(studentRepositoryPort.findPageAfter(null, 3)).thenReturn(Arrays.asList(testStudent, second, third));
+
+        StudentPage page = studentService.getStudentsPage(null, 2);
+
+        assertEquals(2, page.getStudents().size());
+        assertEquals(2L, page.getNextAfterId());
+        assertTrue(page.hasNext());
+    }
+
+    @Test
+    @DisplayName("Should return the last page without a cursor and clamp the page size")
+    void testGetStudentsPage_LastPage() {
+        when(studentRepositoryPort.findPageAfter(1L, StudentService.MAX_PAGE_SIZE + 1)).thenReturn(List.of());
+
+        StudentPage page = studentService.getStudentsPage(1L, 100_000);
+
+        assertTrue(page.getStudents().isEmpty());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    @DisplayName("Should read only the requested fields, plus the student ID that the page cursor needs")
+    void testGetStudentsPage_SparseFields() {
+        Student first = Student.rehydrate(1L, null, null, "juan.perez@email.com", null);
+        Student second = Student.rehydrate(2L, null, null, "maria.gonzalez@email.com", null);
+        when(studentRepositoryPort.findPageAfter(null, 2, EnumSet.of(StudentField.STUDENT_ID, StudentField.EMAIL)))
+                .thenReturn(List.of(first, second));
+
+        StudentPage page = studentService.getStudentsPage(null, 1, EnumSet.of(StudentField.EMAIL));
+
+        assertEquals(List.of(first), page.getStudents());
+        assertEquals(1L, page.getNextAfterId());
+    }
+
+    @Test
+    @DisplayName("Should use the full read when every field is requested")
+    void testGetAllStudents_AllFields() {
+        when(studentRepositoryPort.findAll()).thenReturn(List.of(testStudent));
+
+        assertEquals(List.of(testStudent), studentService.getAllStudents(EnumSet.allOf(StudentField.class)));
+        verify(studentRepositoryPort, never()).findAll(anySet());
+    }
+
+    @Test
+    @DisplayName("Should search through the port with the limit clamped to the maximum page size")
+    void testSearchStudents() {
+        StudentSearchResult expected = new StudentSearchResult(List.of(testStudent), "idx_students_last_first", true);
+        when(studentRepositoryPort.search(argThat(criteria -> criteria.getLimit() == StudentService.MAX_PAGE_SIZE
+                && "Pé".equals(criteria.getLastNamePrefix())))).thenReturn(expected);
+
+        StudentSearchResult result = studentService.searchStudents(new StudentSearchCriteria(
+                "Pé", null, null, StudentSearchCriteria.SortField.LAST_NAME, false, 100_000));
+
+        assertSame(expected, result);
+    }
+
+    @Test
+    @DisplayName("Should clamp the suggestion limit and skip the port for blank queries")
+    void testSuggestStudents() {
+        when(studentRepositoryPort.suggest("jua", StudentService.MAX_SUGGESTIONS)).thenReturn(List.of(testStudent));
+
+        assertEquals(List.of(testStudent), studentService.suggestStudents("jua", 1_000));
+        assertTrue(studentService.suggestStudents("  ", 10).isEmpty());
+        verify(studentRepositoryPort, times(1)).suggest(anyString(), anyInt());
+    }
+
     @Test
     @DisplayName("Should return a student by ID")
     void testGetStudentById() {
@@ -79,92 +159,166 @@ class StudentServiceTest {
     }
     
     @Test
-    @DisplayName("Should create a student successfully")
+    @DisplayName("Should create a student with a single insert")
     void testCreateStudent() {
-        when(studentRepositoryPort.existsByEmail(anyString())).thenReturn(false);
-        when(studentRepositoryPort.save(any(Student.class))).thenReturn(testStudent);
+        Student newStudent = new Student("Juan", "Pérez", "juan.perez@email.com");
+        when(studentRepositoryPort.insert(newStudent)).thenReturn(testStudent);
         
-        Student result = studentService.createStudent(testStudent);
+        Student result = studentService.createStudent(newStudent);
         
         assertNotNull(result);
-        assertEquals("Juan", result.getFirstName());
-        verify(studentRepositoryPort, times(1)).existsByEmail(testStudent.getEmail());
-        verify(studentRepositoryPort, times(1)).save(testStudent);
+        assertEquals(1L, result.getStudentId());
+        verify(studentRepositoryPort, times(1)).insert(newStudent);
+        verify(studentRepositoryPort, never()).existsByEmail(anyString());
     }
     
     @Test
-    @DisplayName("Should throw DuplicateEmailException if email already exists")
+    @DisplayName("Should throw a localized DuplicateEmailException when the insert hits the unique email")
     @SuppressWarnings("null") // MessageSource.getMessage and LocaleContextHolder.getLocale are guaranteed non-null
     void testCreateStudent_DuplicateEmail() {
-        when(studentRepositoryPort.existsByEmail(testStudent.getEmail())).thenReturn(true);
+        when(studentRepositoryPort.insert(testStudent)).thenThrow(new DuplicateEmailException("constraint"));
         when(messageSource.getMessage(anyString(), any(), any())).thenReturn("Email already exists");
         
-        assertThrows(DuplicateEmailException.class, () -> {
+        DuplicateEmailException ex = assertThrows(DuplicateEmailException.class, () -> {
             studentService.createStudent(testStudent);
         });
         
-        verify(studentRepositoryPort, times(1)).existsByEmail(testStudent.getEmail());
-        verify(studentRepositoryPort, never()).save(any(Student.class));
+        assertTrue(ex.getMessage().contains("Email already exists"));
+        verify(studentRepositoryPort, never()).existsByEmail(anyString());
     }
     
     @Test
-    @DisplayName("Should update an existing student")
+    @DisplayName("Should update an existing student with a single conditional update")
     void testUpdateStudent() {
         Student updatedStudent = new Student("Pedro", "García", "pedro.garcia@email.com");
         
-        when(studentRepositoryPort.findById(1L)).thenReturn(Optional.of(testStudent));
-        when(studentRepositoryPort.existsByEmail(anyString())).thenReturn(false);
-        when(studentRepositoryPort.save(any(Student.class))).thenReturn(testStudent);
+        Student saved = new Student(1L, "Pedro", "García", "pedro.garcia@email.com", 42L);
+        when(studentRepositoryPort.update(any(Student.class))).thenReturn(Optional.of(saved));
         
         Student result = studentService.updateStudent(1L, updatedStudent);
         
-        assertNotNull(result);
-        verify(studentRepositoryPort, times(1)).findById(1L);
-        verify(studentRepositoryPort, times(1)).save(any(Student.class));
+        assertEquals(1L, result.getStudentId());
+        assertEquals("Pedro", result.getFirstName());
+        assertEquals(42L, result.getVersion());
+        verify(studentRepositoryPort, times(1)).update(any(Student.class));
+        verify(studentRepositoryPort, never()).findById(anyLong());
+        verify(studentRepositoryPort, never()).existsByEmail(anyString());
     }
     
     @Test
-    @DisplayName("Should throw StudentNotFoundException when updating non-existent student")
+    @DisplayName("Should throw StudentNotFoundException when the update matches no row")
     @SuppressWarnings("null") // MessageSource.getMessage and LocaleContextHolder.getLocale are guaranteed non-null
     void testUpdateStudent_NotFound() {
         Student updatedStudent = new Student("Pedro", "García", "pedro.garcia@email.com");
         
-        when(studentRepositoryPort.findById(999L)).thenReturn(Optional.empty());
+        when(studentRepositoryPort.update(any(Student.class))).thenReturn(Optional.empty());
         when(messageSource.getMessage(anyString(), any(), any())).thenReturn("Student not found");
         
         assertThrows(StudentNotFoundException.class, () -> {
             studentService.updateStudent(999L, updatedStudent);
         });
         
-        verify(studentRepositoryPort, times(1)).findById(999L);
-        verify(studentRepositoryPort, never()).save(any(Student.class));
+        verify(studentRepositoryPort, never()).findById(anyLong());
+    }
+    
+    @Test
+    @DisplayName("Should throw DuplicateEmailException when the update hits the unique email")
+    @SuppressWarnings("null") // MessageSource.getMessage and LocaleContextHolder.getLocale are guaranteed non-null
+    void testUpdateStudent_DuplicateEmail() {
+        Student updatedStudent = new Student("Pedro", "García", "maria.gonzalez@email.com");
+        
+        when(studentRepositoryPort.update(any(Student.class))).thenThrow(new DuplicateEmailException("constraint"));
+        when(messageSource.getMessage(anyString(), any(), any())).thenReturn("Email already exists");
+        
+        assertThrows(DuplicateEmailException.class, () -> {
+            studentService.updateStudent(1L, updatedStudent);
+        });
     }
     
     @Test
-    @DisplayName("Should delete a student")
+    @DisplayName("Should classify a batch with one email lookup and one write per kind")
+    void testUpsertStudents() {
+        Student newStudent = new Student("María", "González", "maria.gonzalez@email.com");
+        Student rename = new Student(1L, "Juan", "Pérez", "juan.perez@email.com");
+        Student missing = new Student(7L, "Pedro", "García", "pedro.garcia@email.com");
+        Student takenEmail = new Student("Ana", "López", "juan.perez@email.com");
+        Student repeatedInBatch = new Student("Otra", "María", "maria.gonzalez@email.com");
+        Student created = new Student(2L, "María", "González", "maria.gonzalez@email.com");
+        Student renamed = new Student(1L, "Juan", "Pérez", "juan.perez@email.com", 42L);
+        
+        when(studentRepositoryPort.findIdsByEmails(anyCollection())).thenReturn(Map.of("juan.perez@email.com", 1L));
+        when(studentRepositoryPort.updateAll(List.of(rename, missing))).thenReturn(List.of(renamed));
+        when(studentRepositoryPort.insertAll(List.of(newStudent))).thenReturn(List.of(created));
+        
+        List<StudentUpsertResult> results = studentService.upsertStudents(
+                List.of(newStudent, rename, missing, takenEmail, repeatedInBatch));
+        
+        assertEquals(StudentUpsertResult.Status.CREATED, results.get(0).getStatus());
+        assertEquals(2L, results.get(0).getStudent().getStudentId());
+        assertEquals(StudentUpsertResult.Status.UPDATED, results.get(1).getStatus());
+        assertEquals(42L, results.get(1).getStudent().getVersion());
+        assertEquals(StudentUpsertResult.Status.NOT_FOUND, results.get(2).getStatus());
+        assertEquals(StudentUpsertResult.Status.DUPLICATE, results.get(3).getStatus());
+        assertEquals(StudentUpsertResult.Status.DUPLICATE, results.get(4).getStatus());
+        verify(studentRepositoryPort, times(1)).findIdsByEmails(anyCollection());
+        verify(studentRepositoryPort, never()).existsByEmail(anyString());
+        verify(studentRepositoryPort, never()).insert(any(Student.class));
+    }
+    
+    @Test
+    @DisplayName("Should retry a batch row by row when an email taken after the lookup fails it, marking only that item DUPLICATE")
+    void testUpsertStudents_ConflictMissedByLookup() {
+        Student first = new Student("María", "González", "maria.gonzalez@email.com");
+        Student takenMeanwhile = new Student("Ana", "López", "ana.lopez@email.com");
+        Student rename = new Student(1L, "Juan", "Pérez", "pedro.garcia@email.com");
+        Student created = new Student(2L, "María", "González", "maria.gonzalez@email.com");
+        
+        when(studentRepositoryPort.findIdsByEmails(anyCollection())).thenReturn(Map.of());
+        when(studentRepositoryPort.updateAll(List.of(rename))).thenThrow(new DuplicateEmailException("constraint"));
+        when(studentRepositoryPort.update(rename)).thenThrow(new DuplicateEmailException("constraint"));
+        when(studentRepositoryPort.insertAll(List.of(first, takenMeanwhile))).thenThrow(new DuplicateEmailException("constraint"));
+        when(studentRepositoryPort.insert(first)).thenReturn(created);
+        when(studentRepositoryPort.insert(takenMeanwhile)).thenThrow(new DuplicateEmailException("constraint"));
+        
+        List<StudentUpsertResult> results = studentService.upsertStudents(List.of(first, takenMeanwhile, rename));
+        
+        assertEquals(StudentUpsertResult.Status.CREATED, results.get(0).getStatus());
+        assertEquals(2L, results.get(0).getStudent().getStudentId());
+        assertEquals(StudentUpsertResult.Status.DUPLICATE, results.get(1).getStatus());
+        assertEquals(StudentUpsertResult.Status.DUPLICATE, results.get(2).getStatus());
+    }
+    
+    @Test
+    @DisplayName("Should delete a student with a single statement")
     void testDeleteStudent() {
-        when(studentRepositoryPort.findById(1L)).thenReturn(Optional.of(testStudent));
-        doNothing().when(studentRepositoryPort).deleteById(1L);
+        when(studentRepositoryPort.deleteById(1L)).thenReturn(true);
         
         studentService.deleteStudent(1L);
         
-        verify(studentRepositoryPort, times(1)).findById(1L);
         verify(studentRepositoryPort, times(1)).deleteById(1L);
+        verify(studentRepositoryPort, never()).findById(anyLong());
     }
     
     @Test
-    @DisplayName("Should throw StudentNotFoundException when deleting non-existent student")
+    @DisplayName("Should throw StudentNotFoundException when the delete matches no row")
     @SuppressWarnings("null") // MessageSource.getMessage and LocaleContextHolder.getLocale are guaranteed non-null
     void testDeleteStudent_NotFound() {
-        when(studentRepositoryPort.findById(999L)).thenReturn(Optional.empty());
+        when(studentRepositoryPort.deleteById(999L)).thenReturn(false);
         when(messageSource.getMessage(anyString(), any(), any())).thenReturn("Student not found");
         
         assertThrows(StudentNotFoundException.class, () -> {
             studentService.deleteStudent(999L);
         });
         
-        verify(studentRepositoryPort, times(1)).findById(999L);
-        verify(studentRepositoryPort, never()).deleteById(anyLong());
+        verify(studentRepositoryPort, never()).findById(anyLong());
+    }
+    
+    @Test
+    @DisplayName("Should delete a set of students and return how many were removed")
+    void testDeleteStudents() {
+        when(studentRepositoryPort.deleteAllById(Set.of(1L, 2L, 3L))).thenReturn(2);
+        
+        assertEquals(2, studentService.deleteStudents(Set.of(1L, 2L, 3L)));
     }
 }
 
@@ -83,4 +83,33 @@ class StudentTest {
         assertEquals(student1, student2);
         assertNotEquals(student1, student3);
     }
+
+    @Test
+    @DisplayName("Should rehydrate a stored student without validating it again")
+    void testRehydrate() {
+        Student student = Student.rehydrate(1L, "Juan", "Pérez", "legacy-email", 7L);
+
+        assertEquals(1L, student.getStudentId());
+        assertEquals("legacy-email", student.getEmail());
+        assertEquals(7L, student.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should accept and reject the same emails as the original regex")
+    void testEmailFormatMatchesRegex() {
+        String[] emails = {
+                "juan.perez@email.com", "a@b", "a+b_c.d-e@x@y", "@email.com", "juan@", "juan",
+                "juan perez@email.com", "juan@email\ncom", "juan@email.com\n", "ñandú@email.com", "j@ "
+        };
+
+        for (String email : emails) {
+            assertEquals(email.matches("^[A-Za-z0-9+_.-]+@(.+)$"), Student.isValidEmailFormat(email), email);
+        }
+    }
+
+    @Test
+    @DisplayName("Should treat whitespace-only names as empty")
+    void testCreateStudent_BlankFirstName() {
+        assertThrows(IllegalArgumentException.class, () -> new Student(" \t ", "Pérez", "juan.perez@email.com"));
+    }
 }
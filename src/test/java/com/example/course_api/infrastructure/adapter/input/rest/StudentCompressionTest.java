@@ -0,0 +1,68 @@
+package com.example.course_api.infrastructure.adapter.input.rest;
+
+import com.example.course_api.application.port.input.StudentUseCase;
+import com.example.course_api.domain.model.Student;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:compression;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.controller.enabled=false",
+        "app.students.events.poll-interval=1h"
+})
+@ActiveProfiles("test")
+@DisplayName("gzip compression of student responses on the embedded server")
+class StudentCompressionTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private StudentUseCase studentUseCase;
+
+    @Test
+    @DisplayName("GET /api/v1/students - Should gzip a list of 2KB or more and still tag it with an ETag")
+    void testListIsCompressed() throws Exception {
+        for (int i = 0; i < 40; i++) {
+            studentUseCase.createStudent(new Student("Student" + i, "Compressed", "student" + i + ".gzip@email.com"));
+        }
+
+        HttpResponse<byte[]> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/students"))
+                        .header("Accept", "application/json")
+                        .header("Accept-Encoding", "gzip")
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElse(null));
+        assertTrue(response.headers().firstValue("ETag").orElseThrow().startsWith("W/\""));
+        String json = gunzip(response.body());
+        assertTrue(json.length() > 2048, "uncompressed body of " + json.length() + " bytes");
+        assertTrue(json.contains("student39.gzip@email.com"));
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
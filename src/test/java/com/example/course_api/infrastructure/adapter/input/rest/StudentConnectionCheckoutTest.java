@@ -0,0 +1,148 @@
+package com.example.course_api.infrastructure.adapter.input.rest;
+
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentBatchItemRequest;
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentBatchRequest;
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:checkouts",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.controller.enabled=false",
+        "app.cache.students.enabled=false",
+        "app.students.email-filter.enabled=false",
+        "app.students.suggest.enabled=false",
+        "app.students.events.poll-interval=1h"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(StudentConnectionCheckoutTest.CheckoutCountingConfiguration.class)
+@DisplayName("Connection checkouts per request")
+class StudentConnectionCheckoutTest {
+
+    private static final AtomicInteger checkouts = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        checkouts.set(0);
+    }
+
+    @Test
+    @DisplayName("Every use case call should run in one transaction on one connection")
+    void testOneCheckoutPerUseCaseCall() throws Exception {
+        String body = mockMvc.perform(post("/api/v1/students")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new StudentRequest("Juan", "Pérez", "juan.checkout@email.com"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        assertEquals(1, checkouts.getAndSet(0));
+        Integer studentId = JsonPath.read(body, "$.studentId");
+
+        mockMvc.perform(get("/api/v1/students/" + studentId))
+                .andExpect(status().isOk());
+        assertEquals(1, checkouts.getAndSet(0));
+
+        // The collection version and the rows are two use case calls, so a 304 never loads rows. The
+        // request's open EntityManager keeps the first call's connection for the second one.
+        String etag = mockMvc.perform(get("/api/v1/students"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertEquals(1, checkouts.getAndSet(0));
+
+        mockMvc.perform(get("/api/v1/students").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        assertEquals(1, checkouts.getAndSet(0));
+
+        mockMvc.perform(get("/api/v1/students/search").param("lastName", "Pé"))
+                .andExpect(status().isOk());
+        assertEquals(1, checkouts.getAndSet(0));
+
+        mockMvc.perform(put("/api/v1/students/" + studentId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new StudentRequest("Pedro", "García", "pedro.checkout@email.com"))))
+                .andExpect(status().isOk());
+        assertEquals(1, checkouts.getAndSet(0));
+
+        mockMvc.perform(post("/api/v1/students/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new StudentBatchRequest(List.of(
+                                new StudentBatchItemRequest(null, "Ana", "López", "ana.checkout@email.com"),
+                                new StudentBatchItemRequest(Long.valueOf(studentId), "Pedro", "Ruiz",
+                                        "pedro.checkout@email.com"))))))
+                .andExpect(status().isOk());
+        assertEquals(1, checkouts.getAndSet(0));
+
+        mockMvc.perform(delete("/api/v1/students/" + studentId))
+                .andExpect(status().isNoContent());
+        assertEquals(1, checkouts.getAndSet(0));
+    }
+
+    private String json(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+
+    @TestConfiguration
+    static class CheckoutCountingConfiguration {
+
+        @Bean
+        static BeanPostProcessor checkoutCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new CheckoutCountingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    private static final class CheckoutCountingDataSource extends DelegatingDataSource {
+
+        CheckoutCountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            checkouts.incrementAndGet();
+            return super.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            checkouts.incrementAndGet();
+            return super.getConnection(username, password);
+        }
+    }
+}
@@ -2,8 +2,21 @@ package com.example.course_api.infrastructure.adapter.input.rest;
 
 import com.example.course_api.application.port.input.StudentUseCase;
 import com.example.course_api.domain.model.Student;
+import com.example.course_api.domain.model.StudentCollectionVersion;
+import com.example.course_api.domain.model.StudentField;
+import com.example.course_api.domain.model.StudentPage;
+import com.example.course_api.domain.model.StudentSearchCriteria;
+import com.example.course_api.domain.model.StudentSearchResult;
+import com.example.course_api.domain.model.StudentUpsertResult;
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentBatchItemRequest;
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentBatchRequest;
 import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentRequest;
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -16,10 +29,16 @@ import org.springframework.test.web.servlet.MockMvc;
 import com.example.course_api.infrastructure.adapter.input.rest.exception.GlobalExceptionHandler;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -28,7 +47,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @WebMvcTest(controllers = StudentController.class, excludeAutoConfiguration = {
         org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class
 })
-@Import(GlobalExceptionHandler.class)
+@Import({GlobalExceptionHandler.class, BinaryMediaTypesConfig.class})
 @DisplayName("Tests for StudentController (Hexagonal Architecture)")
 class StudentControllerTest {
 
@@ -53,11 +72,13 @@ class StudentControllerTest {
     @SuppressWarnings("null") // MediaType.APPLICATION_JSON is a Spring constant, guaranteed non-null
     void testGetAllStudents() throws Exception {
         List<Student> students = Arrays.asList(testStudent);
+        when(studentUseCase.getStudentsVersion()).thenReturn(new StudentCollectionVersion(5L, 1L));
         when(studentUseCase.getAllStudents()).thenReturn(students);
 
         mockMvc.perform(get("/api/v1/students"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", "W/\"5-1\""))
                 .andExpect(jsonPath("$[0].studentId").value(1))
                 .andExpect(jsonPath("$[0].firstName").value("Juan"))
                 .andExpect(jsonPath("$[0].lastName").value("Pérez"))
@@ -66,6 +87,159 @@ class StudentControllerTest {
         verify(studentUseCase, times(1)).getAllStudents();
     }
 
+    @Test
+    @DisplayName("GET /api/v1/students - Should return 304 without loading students when the ETag matches")
+    void testGetAllStudents_NotModified() throws Exception {
+        when(studentUseCase.getStudentsVersion()).thenReturn(new StudentCollectionVersion(5L, 1L));
+
+        mockMvc.perform(get("/api/v1/students").header("If-None-Match", "W/\"5-1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "W/\"5-1\""))
+                .andExpect(content().string(""));
+
+        verify(studentUseCase, never()).getAllStudents();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/students?fields= - Should serialize only the requested fields and tag them in the ETag")
+    void testGetAllStudents_SparseFields() throws Exception {
+        when(studentUseCase.getStudentsVersion()).thenReturn(new StudentCollectionVersion(5L, 1L));
+        when(studentUseCase.getAllStudents(EnumSet.of(StudentField.STUDENT_ID, StudentField.EMAIL)))
+                .thenReturn(List.of(Student.rehydrate(1L, null, null, "juan.perez@email.com", null)));
+
+        mockMvc.perform(get("/api/v1/students").param("fields", "email,studentId"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"5-1;studentId,email\""))
+                .andExpect(content().json("[{\"studentId\":1,\"email\":\"juan.perez@email.com\"}]", true));
+
+        verify(studentUseCase, never()).getAllStudents();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/students?limit=&fields= - Should keep the cursor when the student ID is not requested")
+    void testGetStudentsPage_SparseFields() throws Exception {
+        when(studentUseCase.getStudentsVersion()).thenReturn(new StudentCollectionVersion(5L, 1L));
+        when(studentUseCase.getStudentsPage(null, 1, EnumSet.of(StudentField.EMAIL)))
+                .thenReturn(new StudentPage(List.of(Student.rehydrate(1L, null, null, "juan.perez@email.com", null)), 1L));
+
+        mockMvc.perform(get("/api/v1/students").param("limit", "1").param("fields", "email"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.students[0].email").value("juan.perez@email.com"))
+                .andExpect(jsonPath("$.students[0].studentId").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").isString());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/students?fields= - Should return 400 for an unknown field")
+    void testGetAllStudents_InvalidFields() throws Exception {
+        mockMvc.perform(get("/api/v1/students").param("fields", "studentId,password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fields").exists());
+
+        verify(studentUseCase, never()).getStudentsVersion();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/students?limit= - Should return a page with a next cursor")
+    void testGetStudentsPage() throws Exception {
+        when(studentUseCase.getStudentsVersion()).thenReturn(new StudentCollectionVersion(5L, 1L));
+        when(studentUseCase.getStudentsPage(null, 1)).thenReturn(new StudentPage(List.of(testStudent), 1L));
+
+        String nextCursor = JsonPath.read(mockMvc.perform(get("/api/v1/students").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.students[0].studentId").value(1))
+                .andExpect(jsonPath("$.nextCursor").isString())
+                .andReturn().getResponse().getContentAsString(), "$.nextCursor");
+
+        when(studentUseCase.getStudentsPage(1L, 1)).thenReturn(new StudentPage(List.of(), null));
+
+        mockMvc.perform(get("/api/v1/students").param("after", nextCursor).param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.students").isEmpty())
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        verify(studentUseCase, never()).getAllStudents();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/students?after= - Should return 400 for a malformed cursor")
+    void testGetStudentsPage_InvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/students").param("after", "not-a-cursor").param("limit", "10"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.after").exists());
+
+        verify(studentUseCase, never()).getStudentsPage(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/students/search - Should pass prefixes, sort and limit and report the index used")
+    void testSearchStudents() throws Exception {
+        when(studentUseCase.searchStudents(any(StudentSearchCriteria.class)))
+                .thenReturn(new StudentSearchResult(List.of(testStudent), "idx_students_last_first", true));
+
+        mockMvc.perform(get("/api/v1/students/search")
+                        .param("lastName", "Pé")
+                        .param("emailDomain", "email.com")
+                        .param("sort", "lastName,desc")
+                        .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.students[0].lastName").value("Pérez"))
+                .andExpect(jsonPath("$.indexHint").value("idx_students_last_first"))
+                .andExpect(jsonPath("$.indexedHint").value(true));
+
+        verify(studentUseCase).searchStudents(argThat(criteria -> "Pé".equals(criteria.getLastNamePrefix())
+                && criteria.getFirstNamePrefix() == null
+                && "email.com".equals(criteria.getEmailDomainPrefix())
+                && criteria.getSortField() == StudentSearchCriteria.SortField.LAST_NAME
+                && criteria.isDescending()
+                && criteria.getLimit() == 20));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/students/search - Should return 400 for an unknown sort field")
+    void testSearchStudents_InvalidSort() throws Exception {
+        mockMvc.perform(get("/api/v1/students/search").param("sort", "email"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.sort").exists());
+
+        verify(studentUseCase, never()).searchStudents(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/students/suggest - Should return matching students for the typed prefix")
+    void testSuggestStudents() throws Exception {
+        when(studentUseCase.suggestStudents("jua pé", 5)).thenReturn(List.of(testStudent));
+
+        mockMvc.perform(get("/api/v1/students/suggest").param("q", "jua pé").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].studentId").value(1))
+                .andExpect(jsonPath("$[0].lastName").value("Pérez"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/students/export - Should stream one JSON document per line")
+    @SuppressWarnings("unchecked")
+    void testExportStudents() throws Exception {
+        Student second = new Student(2L, "María", "González", "maria.gonzalez@email.com");
+        doAnswer(invocation -> {
+            Consumer<Student> consumer = invocation.getArgument(0);
+            consumer.accept(testStudent);
+            consumer.accept(second);
+            return null;
+        }).when(studentUseCase).exportStudents(any(Consumer.class));
+
+        String body = mockMvc.perform(get("/api/v1/students/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(1, (Integer) JsonPath.read(lines[0], "$.studentId"));
+        assertEquals("maria.gonzalez@email.com", JsonPath.read(lines[1], "$.email"));
+        verify(studentUseCase, never()).getAllStudents();
+    }
+
     @Test
     @DisplayName("GET /api/v1/students/{id} - Should return a student by ID")
     @SuppressWarnings("null") // MediaType.APPLICATION_JSON is a Spring constant, guaranteed non-null
@@ -94,6 +268,23 @@ class StudentControllerTest {
         verify(studentUseCase, times(1)).getStudentById(999L);
     }
 
+    @Test
+    @DisplayName("GET /api/v1/students/{id} - Should return 304 with an empty body when the ETag matches")
+    void testGetStudentById_NotModified() throws Exception {
+        Student versioned = new Student(1L, "Juan", "Pérez", "juan.perez@email.com", 7L);
+        when(studentUseCase.getStudentById(1L)).thenReturn(Optional.of(versioned));
+
+        mockMvc.perform(get("/api/v1/students/1").header("If-None-Match", "W/\"7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "W/\"7\""))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/v1/students/1").header("If-None-Match", "W/\"6\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"7\""))
+                .andExpect(jsonPath("$.version").value(7));
+    }
+
     @Test
     @DisplayName("POST /api/v1/students - Should create a student successfully")
     @SuppressWarnings("null") // MediaType and ObjectMapper.writeValueAsString are guaranteed non-null
@@ -113,6 +304,43 @@ class StudentControllerTest {
         verify(studentUseCase, times(1)).createStudent(any(Student.class));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/students - Should encode the list as CBOR when the client accepts it")
+    void testGetAllStudents_Cbor() throws Exception {
+        when(studentUseCase.getStudentsVersion()).thenReturn(new StudentCollectionVersion(5L, 1L));
+        when(studentUseCase.getAllStudents()).thenReturn(List.of(testStudent));
+
+        byte[] body = mockMvc.perform(get("/api/v1/students").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<StudentResponse> students = new CBORMapper().readValue(body, new TypeReference<List<StudentResponse>>() {
+        });
+        assertEquals(1L, students.get(0).getStudentId());
+        assertEquals("juan.perez@email.com", students.get(0).getEmail());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/students - Should accept and return Smile")
+    void testCreateStudent_Smile() throws Exception {
+        SmileMapper smileMapper = new SmileMapper();
+        MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+        when(studentUseCase.createStudent(any(Student.class))).thenReturn(testStudent);
+
+        byte[] body = mockMvc.perform(post("/api/v1/students")
+                        .contentType(smile)
+                        .accept(smile)
+                        .content(smileMapper.writeValueAsBytes(
+                                new StudentRequest("Juan", "Pérez", "juan.perez@email.com"))))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(smile))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals("Pérez", smileMapper.readValue(body, StudentResponse.class).getLastName());
+        verify(studentUseCase).createStudent(argThat(student -> "juan.perez@email.com".equals(student.getEmail())));
+    }
+
     @Test
     @DisplayName("POST /api/v1/students - Should return 400 if data is invalid")
     @SuppressWarnings("null") // MediaType and ObjectMapper.writeValueAsString are guaranteed non-null
@@ -145,6 +373,43 @@ class StudentControllerTest {
         verify(studentUseCase, times(1)).updateStudent(eq(1L), any(Student.class));
     }
 
+    @Test
+    @DisplayName("POST /api/v1/students/batch - Should return a status per item in request order")
+    void testUpsertStudents() throws Exception {
+        StudentBatchRequest request = new StudentBatchRequest(List.of(
+                new StudentBatchItemRequest(null, "María", "González", "maria.gonzalez@email.com"),
+                new StudentBatchItemRequest(1L, "Juan", "Pérez", "juan.perez@email.com")));
+        Student created = new Student(2L, "María", "González", "maria.gonzalez@email.com");
+
+        when(studentUseCase.upsertStudents(anyList())).thenReturn(List.of(
+                new StudentUpsertResult(created, StudentUpsertResult.Status.CREATED),
+                new StudentUpsertResult(testStudent, StudentUpsertResult.Status.DUPLICATE)));
+
+        mockMvc.perform(post("/api/v1/students/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[0].student.studentId").value(2))
+                .andExpect(jsonPath("$[1].status").value("DUPLICATE"));
+
+        verify(studentUseCase, never()).createStudent(any(Student.class));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/students/batch - Should return 400 if any item is invalid")
+    void testUpsertStudents_InvalidItem() throws Exception {
+        StudentBatchRequest request = new StudentBatchRequest(List.of(
+                new StudentBatchItemRequest(null, "María", "González", "invalid-email")));
+
+        mockMvc.perform(post("/api/v1/students/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verify(studentUseCase, never()).upsertStudents(anyList());
+    }
+
     @Test
     @DisplayName("DELETE /api/v1/students/{id} - Should delete a student")
     void testDeleteStudent() throws Exception {
@@ -155,4 +420,18 @@ class StudentControllerTest {
 
         verify(studentUseCase, times(1)).deleteStudent(1L);
     }
+
+    @Test
+    @DisplayName("DELETE /api/v1/students?ids= - Should delete a set of students")
+    @SuppressWarnings("unchecked")
+    void testDeleteStudents() throws Exception {
+        when(studentUseCase.deleteStudents(any(Collection.class))).thenReturn(2);
+
+        mockMvc.perform(delete("/api/v1/students").param("ids", "1,2,3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(2));
+
+        verify(studentUseCase, times(1)).deleteStudents(Set.of(1L, 2L, 3L));
+        verify(studentUseCase, never()).deleteStudent(anyLong());
+    }
 }
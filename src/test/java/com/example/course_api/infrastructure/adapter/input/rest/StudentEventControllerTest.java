@@ -0,0 +1,78 @@
+package com.example.course_api.infrastructure.adapter.input.rest;
+
+import com.example.course_api.application.port.input.StudentEventFeedUseCase;
+import com.example.course_api.domain.model.Student;
+import com.example.course_api.domain.model.StudentChangeEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = StudentEventController.class, excludeAutoConfiguration = {
+        org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class
+})
+@DisplayName("Tests for StudentEventController")
+class StudentEventControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private StudentEventFeedUseCase studentEventFeedUseCase;
+
+    @Test
+    @DisplayName("GET /api/v1/students/events - Should stream changes as Server-Sent Events resuming after Last-Event-ID")
+    void testStreamEvents() throws Exception {
+        when(studentEventFeedUseCase.subscribe(eq(6L), any())).thenAnswer(invocation -> {
+            StudentEventFeedUseCase.Listener listener = invocation.getArgument(1);
+            listener.onEvent(new StudentChangeEvent(7L, StudentChangeEvent.Type.UPDATED,
+                    Student.rehydrate(1L, "Juan", "Pérez", "juan.perez@email.com", 42L)));
+            listener.onEvent(new StudentChangeEvent(8L, StudentChangeEvent.Type.DELETED,
+                    Student.rehydrate(2L, null, null, null, 43L)));
+            listener.onClose();
+            return mock(StudentEventFeedUseCase.Subscription.class);
+        });
+
+        MvcResult result = mockMvc.perform(get("/api/v1/students/events")
+                        .header("Last-Event-ID", "6")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertTrue(body.contains("id:7\nevent:updated\ndata:{\"eventId\":7,\"type\":\"updated\","
+                + "\"student\":{\"studentId\":1,\"firstName\":\"Juan\",\"lastName\":\"Pérez\","
+                + "\"email\":\"juan.perez@email.com\",\"version\":42}}"), body);
+        assertTrue(body.contains("id:8\nevent:deleted\ndata:{\"eventId\":8,\"type\":\"deleted\","
+                + "\"student\":{\"studentId\":2,\"version\":43}}"), body);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/students/events - Should start with new changes only when Last-Event-ID is missing or invalid")
+    void testStreamEvents_WithoutValidLastEventId() throws Exception {
+        when(studentEventFeedUseCase.subscribe(isNull(), any()))
+                .thenReturn(mock(StudentEventFeedUseCase.Subscription.class));
+
+        mockMvc.perform(get("/api/v1/students/events"))
+                .andExpect(request().asyncStarted());
+        mockMvc.perform(get("/api/v1/students/events").header("Last-Event-ID", "not-a-number"))
+                .andExpect(request().asyncStarted());
+
+        verify(studentEventFeedUseCase, times(2)).subscribe(isNull(), any());
+    }
+}
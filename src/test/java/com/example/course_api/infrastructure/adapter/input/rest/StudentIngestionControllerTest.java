@@ -0,0 +1,110 @@
+package com.example.course_api.infrastructure.adapter.input.rest;
+
+import com.example.course_api.application.port.input.StudentIngestionUseCase;
+import com.example.course_api.domain.exception.IngestionQueueFullException;
+import com.example.course_api.domain.model.Student;
+import com.example.course_api.domain.model.StudentIngestion;
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentRequest;
+import com.example.course_api.infrastructure.adapter.input.rest.exception.GlobalExceptionHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = StudentIngestionController.class, excludeAutoConfiguration = {
+        org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration.class
+})
+@Import(GlobalExceptionHandler.class)
+@DisplayName("Tests for StudentIngestionController")
+class StudentIngestionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private StudentIngestionUseCase studentIngestionUseCase;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("POST /api/v1/students?async=true - Should return 202 with a tracking ID and its Location")
+    void testSubmitStudent() throws Exception {
+        when(studentIngestionUseCase.submitStudent(any(Student.class))).thenReturn(new StudentIngestion(
+                "abc-123", StudentIngestion.Status.QUEUED, new Student("Juan", "Pérez", "juan.perez@email.com"), null));
+
+        mockMvc.perform(post("/api/v1/students").param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new StudentRequest("Juan", "Pérez", "juan.perez@email.com"))))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/api/v1/students/ingestions/abc-123"))
+                .andExpect(jsonPath("$.trackingId").value("abc-123"))
+                .andExpect(jsonPath("$.status").value("QUEUED"))
+                .andExpect(jsonPath("$.student.email").value("juan.perez@email.com"))
+                .andExpect(jsonPath("$.student.studentId").doesNotExist())
+                .andExpect(jsonPath("$.message").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/students?async=true - Should validate the body before queueing")
+    void testSubmitStudent_Invalid() throws Exception {
+        mockMvc.perform(post("/api/v1/students").param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new StudentRequest("", "Pérez", "not-an-email"))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.firstName").exists())
+                .andExpect(jsonPath("$.email").exists());
+
+        verifyNoInteractions(studentIngestionUseCase);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/students?async=true - Should return 429 with Retry-After when the queue is full")
+    void testSubmitStudent_QueueFull() throws Exception {
+        when(studentIngestionUseCase.submitStudent(any(Student.class)))
+                .thenThrow(new IngestionQueueFullException("Too many students are waiting to be created; retry later"));
+
+        mockMvc.perform(post("/api/v1/students").param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new StudentRequest("Juan", "Pérez", "juan.perez@email.com"))))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.error").value("Too many students are waiting to be created; retry later"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/students/ingestions/{trackingId} - Should return the outcome with the generated ID")
+    void testGetIngestion() throws Exception {
+        when(studentIngestionUseCase.getIngestion("abc-123")).thenReturn(Optional.of(new StudentIngestion(
+                "abc-123", StudentIngestion.Status.CREATED,
+                new Student(42L, "Juan", "Pérez", "juan.perez@email.com", 0L), null)));
+
+        mockMvc.perform(get("/api/v1/students/ingestions/abc-123"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CREATED"))
+                .andExpect(jsonPath("$.student.studentId").value(42));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/students/ingestions/{trackingId} - Should return 404 for an unknown tracking ID")
+    void testGetIngestion_NotFound() throws Exception {
+        when(studentIngestionUseCase.getIngestion("missing")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/students/ingestions/missing"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.course_api.infrastructure.adapter.input.rest;
+
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Tests for StudentResponseSerializer")
+class StudentResponseSerializerTest {
+
+    private final ObjectMapper beanMapper = new ObjectMapper();
+    private final ObjectMapper precompiledMapper = new ObjectMapper()
+            .registerModule(new SimpleModule().addSerializer(new StudentResponseSerializer()));
+
+    @Test
+    @DisplayName("Should write the same JSON as the bean serializer, including omitted null fields")
+    void testMatchesBeanSerializer() throws Exception {
+        List<StudentResponse> responses = List.of(
+                new StudentResponse(1L, "Juan", "Pérez", "juan \"jp\" perez@email.com", 7L),
+                new StudentResponse(2L, null, null, "maria@email.com", null));
+
+        String json = precompiledMapper.writeValueAsString(responses);
+
+        assertEquals(beanMapper.writeValueAsString(responses), json);
+        assertEquals("[{\"studentId\":1,\"firstName\":\"Juan\",\"lastName\":\"Pérez\","
+                + "\"email\":\"juan \\\"jp\\\" perez@email.com\",\"version\":7},"
+                + "{\"studentId\":2,\"email\":\"maria@email.com\"}]", json);
+    }
+
+    @Test
+    @DisplayName("Should produce CBOR that the bean deserializer reads back")
+    void testCborRoundTrip() throws Exception {
+        ObjectMapper cbor = new CBORMapper()
+                .registerModule(new SimpleModule().addSerializer(new StudentResponseSerializer()));
+
+        byte[] encoded = cbor.writeValueAsBytes(List.of(new StudentResponse(1L, "Juan", "Pérez", "juan@email.com", 3L)));
+        List<StudentResponse> decoded = new CBORMapper().readValue(encoded, new TypeReference<List<StudentResponse>>() {
+        });
+
+        assertEquals("Pérez", decoded.get(0).getLastName());
+        assertEquals(3L, decoded.get(0).getVersion());
+    }
+}
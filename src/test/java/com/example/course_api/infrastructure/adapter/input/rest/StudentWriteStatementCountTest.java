@@ -0,0 +1,180 @@
+package com.example.course_api.infrastructure.adapter.input.rest;
+
+import com.example.course_api.infrastructure.adapter.input.rest.dto.StudentRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statementcount",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.controller.enabled=false",
+        "app.cache.students.enabled=false",
+        "app.students.email-filter.enabled=false",
+        "app.students.suggest.enabled=false",
+        "app.students.events.poll-interval=1h"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(StudentWriteStatementCountTest.StatementCountingConfiguration.class)
+@DisplayName("Statements issued per write request")
+class StudentWriteStatementCountTest {
+
+    private static final AtomicInteger executedStatements = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        executedStatements.set(0);
+    }
+
+    @Test
+    @DisplayName("A successful create, update or delete should cost its statement plus one outbox row; a failed one only its statement")
+    void testWriteStatementCounts() throws Exception {
+        String body = mockMvc.perform(post("/api/v1/students")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new StudentRequest("Juan", "Pérez", "juan.count@email.com"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        assertEquals(2, executedStatements.getAndSet(0));
+
+        Integer studentId = JsonPath.read(body, "$.studentId");
+        mockMvc.perform(put("/api/v1/students/" + studentId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new StudentRequest("Pedro", "García", "pedro.count@email.com"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName").value("Pedro"));
+        assertEquals(2, executedStatements.getAndSet(0));
+
+        mockMvc.perform(post("/api/v1/students")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new StudentRequest("Ana", "López", "pedro.count@email.com"))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.email").exists());
+        assertEquals(1, executedStatements.getAndSet(0));
+
+        mockMvc.perform(put("/api/v1/students/999999")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new StudentRequest("Ana", "López", "ana.count@email.com"))))
+                .andExpect(status().isNotFound());
+        assertEquals(1, executedStatements.getAndSet(0));
+
+        mockMvc.perform(delete("/api/v1/students/" + studentId))
+                .andExpect(status().isNoContent());
+        assertEquals(2, executedStatements.getAndSet(0));
+
+        mockMvc.perform(delete("/api/v1/students/" + studentId))
+                .andExpect(status().isNotFound());
+        assertEquals(1, executedStatements.getAndSet(0));
+    }
+
+    private String json(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+
+    @TestConfiguration
+    static class StatementCountingConfiguration {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new CountingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    private static final class CountingDataSource extends DelegatingDataSource {
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws java.sql.SQLException {
+            return countingConnection(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws java.sql.SQLException {
+            return countingConnection(super.getConnection(username, password));
+        }
+
+        private static Connection countingConnection(Connection connection) {
+            return proxy(Connection.class, connection, (target, method, args) -> {
+                Object result = invoke(method, target, args);
+                if (result instanceof CallableStatement statement) {
+                    return proxy(CallableStatement.class, statement, CountingDataSource::countExecutions);
+                }
+                if (result instanceof PreparedStatement statement) {
+                    return proxy(PreparedStatement.class, statement, CountingDataSource::countExecutions);
+                }
+                if (result instanceof Statement statement) {
+                    return proxy(Statement.class, statement, CountingDataSource::countExecutions);
+                }
+                return result;
+            });
+        }
+
+        private static Object countExecutions(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+            if (method.getName().startsWith("execute")) {
+                executedStatements.incrementAndGet();
+            }
+            return invoke(method, target, args);
+        }
+
+        private static Object invoke(java.lang.reflect.Method method, Object target, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, TargetHandler handler) {
+            InvocationHandler invocationHandler = (proxy, method, args) -> handler.handle(target, method, args);
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, invocationHandler);
+        }
+
+        @FunctionalInterface
+        private interface TargetHandler {
+            Object handle(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.course_api.infrastructure.adapter.output.cache;
+
+import com.example.course_api.application.port.output.StudentRepositoryPort;
+import com.example.course_api.domain.model.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests for CachingStudentRepositoryAdapter")
+class CachingStudentRepositoryAdapterTest {
+
+    @Mock
+    private StudentRepositoryPort delegate;
+
+    private CachingStudentRepositoryAdapter adapter;
+    private Student testStudent;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new CachingStudentRepositoryAdapter(delegate, 100, Duration.ofMinutes(5), Duration.ofSeconds(30));
+        testStudent = new Student(1L, "Juan", "Pérez", "juan.perez@email.com");
+    }
+
+    @Test
+    @DisplayName("Should hit the delegate only once for repeated reads")
+    void testFindById_Hit() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(testStudent));
+
+        assertEquals(testStudent, adapter.findById(1L).orElseThrow());
+        assertEquals(testStudent, adapter.findById(1L).orElseThrow());
+
+        verify(delegate, times(1)).findById(1L);
+        assertEquals(1, adapter.stats().hitCount());
+        assertEquals(1, adapter.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("Should cache misses")
+    void testFindById_NegativeCache() {
+        when(delegate.findById(999L)).thenReturn(Optional.empty());
+
+        assertTrue(adapter.findById(999L).isEmpty());
+        assertTrue(adapter.findById(999L).isEmpty());
+
+        verify(delegate, times(1)).findById(999L);
+    }
+
+    @Test
+    @DisplayName("Should not let callers mutate the cached student")
+    void testFindById_ReturnsCopies() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(testStudent));
+
+        adapter.findById(1L).orElseThrow().update("Pedro", "García", "pedro.garcia@email.com");
+
+        assertEquals("juan.perez@email.com", adapter.findById(1L).orElseThrow().getEmail());
+    }
+
+    @Test
+    @DisplayName("Should evict on insert, update and delete")
+    void testWritesEvict() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(testStudent));
+        when(delegate.insert(any(Student.class))).thenReturn(testStudent);
+        when(delegate.update(testStudent)).thenReturn(Optional.of(testStudent));
+
+        adapter.findById(1L);
+        adapter.insert(new Student("Juan", "Pérez", "juan.perez@email.com"));
+        adapter.findById(1L);
+        adapter.update(testStudent);
+        adapter.findById(1L);
+        adapter.deleteById(1L);
+        adapter.findById(1L);
+
+        verify(delegate, times(4)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Should evict cached misses for IDs created by a batch insert")
+    void testInsertAllEvictsNegativeEntries() {
+        Student created = new Student(2L, "María", "González", "maria.gonzalez@email.com");
+        when(delegate.findById(2L)).thenReturn(Optional.empty()).thenReturn(Optional.of(created));
+        when(delegate.insertAll(anyList())).thenReturn(List.of(created));
+        when(delegate.updateAll(anyList())).thenReturn(List.of());
+
+        assertTrue(adapter.findById(2L).isEmpty());
+        adapter.insertAll(List.of(new Student("María", "González", "maria.gonzalez@email.com")));
+        adapter.updateAll(List.of());
+
+        assertTrue(adapter.findById(2L).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should serve other IDs while one query is slow, without holding the cache's lock")
+    void testFindById_SlowLoadDoesNotBlockOtherKeys() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findById(anyLong())).thenReturn(Optional.empty());
+        when(delegate.findById(1L)).thenAnswer(invocation -> {
+            loading.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return Optional.of(testStudent);
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Optional<Student>> slow = executor.submit(() -> adapter.findById(1L));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            // Enough keys that some share a hash bin with ID 1 or force a resize while it loads.
+            for (long id = 2; id <= 200; id++) {
+                assertTrue(adapter.findById(id).isEmpty());
+            }
+
+            release.countDown();
+            assertEquals(testStudent, slow.get(5, TimeUnit.SECONDS).orElseThrow());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not cache a row loaded before a write evicted its ID")
+    void testFindById_EvictionDuringLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Student renamed = new Student(1L, "Pedro", "Pérez", "juan.perez@email.com");
+        when(delegate.findById(1L)).thenAnswer(invocation -> {
+            loading.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return Optional.of(testStudent);
+        }).thenReturn(Optional.of(renamed));
+        when(delegate.update(renamed)).thenReturn(Optional.of(renamed));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Optional<Student>> stale = executor.submit(() -> adapter.findById(1L));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            adapter.update(renamed);
+            release.countDown();
+            stale.get(5, TimeUnit.SECONDS);
+
+            assertEquals("Pedro", adapter.findById(1L).orElseThrow().getFirstName());
+            verify(delegate, times(2)).findById(1L);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should rethrow a failed load and query again on the next call")
+    void testFindById_FailedLoadIsNotCached() {
+        when(delegate.findById(1L)).thenThrow(new IllegalStateException("database down"))
+                .thenReturn(Optional.of(testStudent));
+
+        assertThrows(IllegalStateException.class, () -> adapter.findById(1L));
+        assertEquals(testStudent, adapter.findById(1L).orElseThrow());
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests for the cached, time-bounded database readiness check")
+class DatabaseReadinessHealthIndicatorTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Test
+    @DisplayName("Should report UP for a valid connection and reuse the result within the TTL")
+    void testUpAndCached() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isValid(2)).thenReturn(true);
+        DatabaseReadinessHealthIndicator indicator = indicator(Duration.ofMinutes(1), Runnable::run);
+
+        assertEquals(Status.UP, indicator.health().getStatus());
+        assertEquals(Status.UP, indicator.health().getStatus());
+
+        verify(dataSource, times(1)).getConnection();
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Should re-validate once the cached result has expired")
+    void testRevalidatesAfterTtl() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isValid(2)).thenReturn(true, false);
+        DatabaseReadinessHealthIndicator indicator = indicator(Duration.ZERO, Runnable::run);
+
+        assertEquals(Status.UP, indicator.health().getStatus());
+        assertEquals(Status.DOWN, indicator.health().getStatus());
+
+        verify(dataSource, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should report DOWN when no connection can be obtained")
+    void testDownWhenPoolFails() throws SQLException {
+        when(dataSource.getConnection()).thenThrow(new SQLTransientConnectionException("pool exhausted"));
+        DatabaseReadinessHealthIndicator indicator = indicator(Duration.ofMinutes(1), Runnable::run);
+
+        Health health = indicator.health();
+
+        assertEquals(Status.DOWN, health.getStatus());
+        assertTrue(health.getDetails().get("error").toString().contains("pool exhausted"));
+    }
+
+    @Test
+    @DisplayName("Should report DOWN without waiting longer than the timeout for a stuck check")
+    void testDownOnTimeout() {
+        DatabaseReadinessHealthIndicator indicator = new DatabaseReadinessHealthIndicator(
+                dataSource, Duration.ofMillis(50), Duration.ofMinutes(1), task -> { });
+
+        Health health = indicator.health();
+
+        assertEquals(Status.DOWN, health.getStatus());
+        assertTrue(health.getDetails().get("error").toString().contains("not validated"));
+        verifyNoInteractions(dataSource);
+    }
+
+    private DatabaseReadinessHealthIndicator indicator(Duration cacheTtl, Executor executor) {
+        return new DatabaseReadinessHealthIndicator(dataSource, Duration.ofSeconds(2), cacheTtl, executor);
+    }
+}
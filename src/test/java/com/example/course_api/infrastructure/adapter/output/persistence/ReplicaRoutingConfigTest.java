@@ -0,0 +1,62 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests for ReplicaRoutingConfig")
+class ReplicaRoutingConfigTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReplicaRoutingConfig config = new ReplicaRoutingConfig();
+
+    @AfterEach
+    void tearDown() {
+        config.destroy();
+        Metrics.globalRegistry.remove(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should publish pool meters for the primary and every replica, and close all pools on destroy")
+    void testPoolMetersAndShutdown() throws Exception {
+        Metrics.globalRegistry.add(meterRegistry);
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl("jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1");
+        properties.setUsername("sa");
+        properties.setPassword("");
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.datasource.replicas.urls",
+                        "jdbc:h2:mem:routing-replica-0;DB_CLOSE_DELAY=-1, jdbc:h2:mem:routing-replica-1;DB_CLOSE_DELAY=-1");
+
+        DataSource dataSource = config.dataSource(properties, environment);
+        ReplicaRoutingDataSource routing = (ReplicaRoutingDataSource) ((LazyConnectionDataSourceProxy) dataSource)
+                .getTargetDataSource();
+        List<HikariDataSource> pools = routing.getResolvedDataSources().values().stream()
+                .map(HikariDataSource.class::cast)
+                .toList();
+        for (HikariDataSource pool : pools) {
+            try (Connection connection = pool.getConnection()) {
+                assertTrue(connection.isValid(1));
+            }
+        }
+
+        assertEquals(3, pools.size());
+        for (String pool : List.of("students-primary", "students-replica-0", "students-replica-1")) {
+            assertNotNull(meterRegistry.find("hikaricp.connections.acquire").tag("pool", pool).timer(), pool);
+        }
+        config.destroy();
+        assertTrue(pools.stream().allMatch(HikariDataSource::isClosed));
+    }
+}
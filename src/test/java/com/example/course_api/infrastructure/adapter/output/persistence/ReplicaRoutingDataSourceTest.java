@@ -0,0 +1,140 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Tests for ReplicaRoutingDataSource and ReadYourWritesFilter")
+class ReplicaRoutingDataSourceTest {
+
+    private final List<EmbeddedDatabase> databases = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        databases.forEach(EmbeddedDatabase::shutdown);
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to the replica and everything else to the primary")
+    void testRoutesByTransactionReadOnlyFlag() {
+        Routed routed = routed(database("primary"), database("replica"));
+
+        assertEquals("replica", routed.readOnly());
+        assertEquals("primary", routed.readWrite());
+        assertEquals("primary", routed.jdbc.queryForObject("SELECT name FROM probe", String.class));
+    }
+
+    @Test
+    @DisplayName("Should balance read-only transactions over the replicas round-robin")
+    void testBalancesReplicas() {
+        Routed routed = routed(database("primary"), database("replica-a"), database("replica-b"));
+
+        List<String> reads = List.of(routed.readOnly(), routed.readOnly(), routed.readOnly(), routed.readOnly());
+
+        assertEquals(List.of("replica-a", "replica-b", "replica-a", "replica-b"), reads);
+    }
+
+    @Test
+    @DisplayName("Should read from the primary when the replica cannot hand out a connection")
+    void testFallsBackToPrimary() throws SQLException {
+        DataSource broken = mock(DataSource.class);
+        when(broken.getConnection()).thenThrow(new SQLTransientConnectionException("replica down"));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Routed routed = new Routed(new ReplicaRoutingDataSource(database("primary"), List.of(broken), registry));
+
+        assertEquals("primary", routed.readOnly());
+        assertEquals(1.0, registry.get("datasource.routing.fallbacks").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should pin a client to the primary for the read-your-writes window after it writes")
+    void testReadYourWritesWindow() throws Exception {
+        Routed routed = routed(database("primary"), database("replica"));
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(2));
+        List<String> reads = new ArrayList<>();
+
+        MockHttpServletResponse written = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("PUT", "/api/v1/students/1"), written,
+                (request, response) -> reads.add(routed.readOnly()));
+        Cookie cookie = written.getCookie(ReadYourWritesFilter.COOKIE);
+        assertNotNull(cookie);
+        assertEquals(2, cookie.getMaxAge());
+
+        MockHttpServletRequest recent = new MockHttpServletRequest("GET", "/api/v1/students/1");
+        recent.setCookies(cookie);
+        filter.doFilter(recent, new MockHttpServletResponse(), (request, response) -> reads.add(routed.readOnly()));
+
+        MockHttpServletRequest expired = new MockHttpServletRequest("GET", "/api/v1/students/1");
+        expired.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(System.currentTimeMillis() - 1)));
+        filter.doFilter(expired, new MockHttpServletResponse(), (request, response) -> reads.add(routed.readOnly()));
+
+        MockHttpServletRequest forged = new MockHttpServletRequest("GET", "/api/v1/students/1");
+        forged.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(Long.MAX_VALUE)));
+        filter.doFilter(forged, new MockHttpServletResponse(), (request, response) -> reads.add(routed.readOnly()));
+
+        assertEquals(List.of("primary", "primary", "replica", "replica"), reads);
+        assertFalse(ReadYourWrites.isPinned());
+    }
+
+    private Routed routed(DataSource primary, DataSource... replicas) {
+        return new Routed(new ReplicaRoutingDataSource(primary, List.of(replicas), new SimpleMeterRegistry()));
+    }
+
+    // Each database holds one row naming itself, so a query shows where it was routed.
+    private EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name + "-" + System.nanoTime())
+                .build();
+        JdbcTemplate jdbc = new JdbcTemplate(database);
+        jdbc.execute("CREATE TABLE probe (name VARCHAR(32))");
+        jdbc.update("INSERT INTO probe (name) VALUES (?)", name);
+        databases.add(database);
+        return database;
+    }
+
+    private static final class Routed {
+        private final JdbcTemplate jdbc;
+        private final TransactionTemplate readOnly;
+        private final TransactionTemplate readWrite;
+
+        private Routed(ReplicaRoutingDataSource routing) {
+            DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+            this.jdbc = new JdbcTemplate(dataSource);
+            this.readOnly = new TransactionTemplate(transactionManager);
+            this.readOnly.setReadOnly(true);
+            this.readWrite = new TransactionTemplate(transactionManager);
+        }
+
+        private String readOnly() {
+            return readOnly.execute(status -> jdbc.queryForObject("SELECT name FROM probe", String.class));
+        }
+
+        private String readWrite() {
+            return readWrite.execute(status -> jdbc.queryForObject("SELECT name FROM probe", String.class));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests for SingleFlight")
+class SingleFlightTest {
+
+    private static final int CALLERS = 16;
+
+    @Test
+    @DisplayName("Should run one call for concurrent callers of the same key and give each the result")
+    void testCoalescesConcurrentCalls() throws Exception {
+        SingleFlight<Long, String> flights = new SingleFlight<>();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> flights.run(1L, () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "value";
+            })));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < CALLERS; i++) {
+                results.add(executor.submit(() -> flights.run(1L, () -> "value-" + calls.incrementAndGet())));
+            }
+            // no follower can finish before the leader is released, so give them time to join
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("value", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, calls.get());
+            assertEquals(0, flights.inFlight());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should share the leader's exception with the callers that joined it")
+    void testSharesException() throws Exception {
+        SingleFlight<Long, String> flights = new SingleFlight<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> flights.run(1L, () -> {
+                started.countDown();
+                await(release);
+                throw new IllegalStateException("connection reset");
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<String> follower = executor.submit(() -> {
+                try {
+                    return flights.run(1L, () -> "not run");
+                } catch (IllegalStateException ex) {
+                    return ex.getMessage();
+                }
+            });
+            Thread.sleep(200);
+            release.countDown();
+
+            assertEquals("connection reset", follower.get(5, TimeUnit.SECONDS));
+            assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not keep results: sequential calls and different keys each run")
+    void testDoesNotCache() {
+        SingleFlight<Long, Integer> flights = new SingleFlight<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        assertEquals(1, flights.run(1L, calls::incrementAndGet));
+        assertEquals(2, flights.run(1L, calls::incrementAndGet));
+        assertEquals(3, flights.run(2L, calls::incrementAndGet));
+        assertEquals(0, flights.inFlight());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
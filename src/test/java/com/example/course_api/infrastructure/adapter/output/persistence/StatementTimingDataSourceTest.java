@@ -0,0 +1,83 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests for the statement-timing data source")
+class StatementTimingDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    private SimpleMeterRegistry registry;
+    private StatementTimingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        dataSource = new StatementTimingDataSource(target, registry, Duration.ofSeconds(1), 0.0);
+    }
+
+    @Test
+    @DisplayName("Should normalise literals and collapse IN lists into one statement shape")
+    void testShapeOf() {
+        assertEquals("DELETE FROM tbl_students WHERE student_id IN (?...)",
+                StatementTimingDataSource.shapeOf("DELETE FROM tbl_students WHERE student_id IN (?, ?,?)"));
+        assertEquals("select s1_0.email_address from tbl_students s1_0 where s1_0.student_id=? and s1_0.email_address=?",
+                StatementTimingDataSource.shapeOf(
+                        "select s1_0.email_address\n  from tbl_students s1_0 where s1_0.student_id=42 and s1_0.email_address='a@b.com'"));
+    }
+
+    @Test
+    @DisplayName("Should time executed statements under their shape and delegate the result")
+    void testTimesPreparedStatements() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeUpdate()).thenReturn(2);
+
+        try (Connection timed = dataSource.getConnection()) {
+            for (String sql : new String[] {"DELETE FROM tbl_students WHERE student_id IN (?, ?)",
+                    "DELETE FROM tbl_students WHERE student_id IN (?, ?, ?)"}) {
+                PreparedStatement statement = timed.prepareStatement(sql);
+                statement.setLong(1, 1L);
+                statement.setLong(2, 2L);
+                assertEquals(2, statement.executeUpdate());
+            }
+        }
+
+        Timer timer = registry.get("jdbc.statements")
+                .tag("shape", "DELETE FROM tbl_students WHERE student_id IN (?...)").timer();
+        assertEquals(2, timer.count());
+        assertEquals(1, registry.find("jdbc.statements").timers().size());
+        verify(preparedStatement, times(2)).setLong(1, 1L);
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Should report no calling port method outside a StudentRepositoryPort")
+    void testCallingPortMethodOutsidePort() {
+        assertEquals("-", StatementTimingDataSource.callingPortMethod());
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Tests for StudentEmailFilter")
+class StudentEmailFilterTest {
+
+    private final StudentJpaRepository studentJpaRepository = mock(StudentJpaRepository.class);
+    // Rebuilds queued by the filter; the tests run them, so nothing happens in the background.
+    private final List<Runnable> rebuilds = new ArrayList<>();
+    private StudentEmailFilter filter;
+
+    @AfterEach
+    void tearDown() {
+        filter.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should never report an email as absent unless this instance is the only writer")
+    void testNotBuiltWithOtherWriters() {
+        filter = filter(false);
+
+        filter.rebuild();
+
+        assertTrue(filter.mightContain("written.elsewhere@email.com"));
+        verifyNoInteractions(studentJpaRepository);
+    }
+
+    @Test
+    @DisplayName("Should stop skipping lookups after an unpredicted duplicate until the table is read again")
+    void testInvalidateAfterMissedEmail() {
+        when(studentJpaRepository.count()).thenReturn(1L);
+        when(studentJpaRepository.streamAllEmails()).thenAnswer(invocation -> Stream.of("juan.perez@email.com"));
+        filter = filter(true);
+        filter.rebuild();
+        assertFalse(filter.mightContain("written.elsewhere@email.com"));
+
+        when(studentJpaRepository.streamAllEmails()).thenAnswer(invocation ->
+                Stream.of("juan.perez@email.com", "written.elsewhere@email.com"));
+        filter.invalidate();
+
+        assertTrue(filter.mightContain("maria.gonzalez@email.com"), "no answers from the stale filter");
+        assertEquals(1, rebuilds.size());
+        rebuilds.forEach(Runnable::run);
+
+        assertFalse(filter.mightContain("maria.gonzalez@email.com"));
+        assertTrue(filter.mightContain("written.elsewhere@email.com"));
+        verify(studentJpaRepository, times(2)).streamAllEmails();
+    }
+
+    @SuppressWarnings("unchecked")
+    private StudentEmailFilter filter(boolean singleWriter) {
+        ObjectProvider<MeterRegistry> meterRegistry = mock(ObjectProvider.class);
+        when(meterRegistry.getIfAvailable(any(Supplier.class))).thenReturn(new SimpleMeterRegistry());
+        return new StudentEmailFilter(studentJpaRepository, mock(PlatformTransactionManager.class), meterRegistry,
+                true, singleWriter, 1_000, 0.01, rebuilds::add);
+    }
+}
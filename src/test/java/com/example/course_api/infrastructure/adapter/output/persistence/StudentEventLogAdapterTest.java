@@ -0,0 +1,113 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import com.example.course_api.domain.model.Student;
+import com.example.course_api.domain.model.StudentChangeEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests for StudentEventLogAdapter")
+class StudentEventLogAdapterTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private StudentEventLogAdapter eventLog;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE tbl_students (student_id BIGINT PRIMARY KEY, first_name VARCHAR(255), "
+                + "last_name VARCHAR(255), email_address VARCHAR(255), email_domain VARCHAR(255), version BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE tbl_student_events (event_id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "event_type VARCHAR(16) NOT NULL, student_id BIGINT NOT NULL, first_name VARCHAR(255), "
+                + "last_name VARCHAR(255), email_address VARCHAR(255), version BIGINT NOT NULL, "
+                + "occurred_at TIMESTAMP(6) NOT NULL)");
+        eventLog = new StudentEventLogAdapter(jdbcTemplate, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should append created and updated students and read them back in event ID order")
+    void testAppendAndFindAfter() {
+        eventLog.append(StudentChangeEvent.Type.CREATED, List.of(
+                Student.rehydrate(1L, "Juan", "Pérez", "juan.perez@email.com", 10L),
+                Student.rehydrate(2L, "María", "González", "maria.gonzalez@email.com", 10L)));
+        eventLog.append(StudentChangeEvent.Type.UPDATED,
+                List.of(Student.rehydrate(1L, "Pedro", "Pérez", "juan.perez@email.com", 11L)));
+
+        List<StudentChangeEvent> events = eventLog.findAfter(0, 10);
+
+        assertEquals(3, events.size());
+        assertEquals(List.of(1L, 2L, 3L), events.stream().map(StudentChangeEvent::getEventId).toList());
+        assertEquals(StudentChangeEvent.Type.UPDATED, events.get(2).getType());
+        assertEquals("Pedro", events.get(2).getStudent().getFirstName());
+        assertEquals(11L, events.get(2).getStudent().getVersion());
+        assertEquals(List.of(2L), eventLog.findAfter(1, 1).stream().map(StudentChangeEvent::getEventId).toList());
+        assertEquals(List.of(1L, 3L), eventLog.findByIds(List.of(3L, 1L, 99L)).stream()
+                .map(StudentChangeEvent::getEventId).toList());
+        assertEquals(3, eventLog.findLatestEventId());
+    }
+
+    @Test
+    @DisplayName("Should record a deleted event only for students that exist")
+    void testAppendDeleted() {
+        jdbcTemplate.update("INSERT INTO tbl_students VALUES (1, 'Juan', 'Pérez', 'juan.perez@email.com', 'email.com', 1)");
+
+        eventLog.appendDeleted(List.of(1L, 99L), 20L);
+
+        List<StudentChangeEvent> events = eventLog.findAfter(0, 10);
+        assertEquals(1, events.size());
+        assertEquals(StudentChangeEvent.Type.DELETED, events.get(0).getType());
+        assertEquals(1L, events.get(0).getStudent().getStudentId());
+        assertEquals(20L, events.get(0).getStudent().getVersion());
+        assertNull(events.get(0).getStudent().getEmail());
+    }
+
+    @Test
+    @DisplayName("Should roll back outbox rows together with the transaction that wrote them")
+    void testAppendJoinsTransaction() {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(database));
+
+        transaction.executeWithoutResult(status -> {
+            eventLog.append(StudentChangeEvent.Type.CREATED,
+                    List.of(Student.rehydrate(1L, "Juan", "Pérez", "juan.perez@email.com", 1L)));
+            status.setRollbackOnly();
+        });
+
+        assertTrue(eventLog.findAfter(0, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should prune events older than the cutoff and append nothing while the feed is disabled")
+    void testPruneAndDisabled() {
+        eventLog.append(StudentChangeEvent.Type.CREATED,
+                List.of(Student.rehydrate(1L, "Juan", "Pérez", "juan.perez@email.com", 1L)));
+        new StudentEventLogAdapter(jdbcTemplate, false).append(StudentChangeEvent.Type.CREATED,
+                List.of(Student.rehydrate(2L, "María", "González", "maria.gonzalez@email.com", 2L)));
+
+        assertEquals(1, eventLog.findLatestEventId());
+        assertEquals(1, eventLog.deleteOlderThan(Instant.now().plusSeconds(1)));
+        assertTrue(eventLog.findAfter(0, 10).isEmpty());
+        assertEquals(0, eventLog.findLatestEventId());
+    }
+}
@@ -1,6 +1,12 @@
 package com.example.course_api.infrastructure.adapter.output.persistence;
 
+import com.example.course_api.domain.exception.DuplicateEmailException;
 import com.example.course_api.domain.model.Student;
+import com.example.course_api.domain.model.StudentChangeEvent;
+import com.example.course_api.domain.model.StudentCollectionVersion;
+import com.example.course_api.domain.model.StudentField;
+import com.example.course_api.domain.model.StudentSearchCriteria;
+import com.example.course_api.domain.model.StudentSearchResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -8,13 +14,46 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,6 +63,27 @@ class StudentRepositoryAdapterTest {
     @Mock
     private StudentJpaRepository studentJpaRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private StudentEmailFilter studentEmailFilter;
+
+    @Mock
+    private StudentSuggestions studentSuggestions;
+
+    @Mock
+    private RecentStudentWrites recentWrites;
+
+    @Mock
+    private StudentEventLogAdapter eventLog;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private StudentRepositoryAdapter studentRepositoryAdapter;
 
@@ -42,17 +102,52 @@ class StudentRepositoryAdapterTest {
     }
 
     @Test
-    @DisplayName("Should save a student and return domain model")
-    @SuppressWarnings("null") // Spring Data JPA save() contract guarantees non-null return
-    void testSave() {
-        when(studentJpaRepository.save(any(StudentJpaEntity.class))).thenReturn(testEntity);
+    @DisplayName("Should insert a student with one statement and return it with its generated ID")
+    void testInsert() {
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class), any(KeyHolder.class))).thenAnswer(invocation -> {
+            KeyHolder keyHolder = invocation.getArgument(1);
+            keyHolder.getKeyList().add(Map.of("GENERATED_KEY", 1L));
+            return 1;
+        });
 
-        Student result = studentRepositoryAdapter.save(testStudent);
+        Student result = studentRepositoryAdapter.insert(new Student("Juan", "Pérez", "juan.perez@email.com"));
 
-        assertNotNull(result);
         assertEquals(1L, result.getStudentId());
         assertEquals("Juan", result.getFirstName());
-        verify(studentJpaRepository, times(1)).save(any(StudentJpaEntity.class));
+        assertNotNull(result.getVersion());
+        verify(studentEmailFilter, times(1)).add("juan.perez@email.com");
+        verify(eventLog).append(StudentChangeEvent.Type.CREATED, List.of(result));
+        verifyNoInteractions(studentJpaRepository);
+    }
+
+    @Test
+    @DisplayName("Should translate a unique-key violation into DuplicateEmailException")
+    void testInsert_DuplicateEmail() {
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class), any(KeyHolder.class)))
+                .thenThrow(new DuplicateKeyException("Duplicate entry"));
+
+        assertThrows(DuplicateEmailException.class,
+                () -> studentRepositoryAdapter.insert(new Student("Juan", "Pérez", "juan.perez@email.com")));
+        verify(studentEmailFilter, never()).add(anyString());
+        verifyNoInteractions(eventLog);
+    }
+
+    @Test
+    @DisplayName("Should update with one statement, stamp a new version and report whether a row matched")
+    void testUpdate() {
+        when(jdbcTemplate.update(anyString(), eq("Juan"), eq("Pérez"), eq("juan.perez@email.com"), eq("email.com"), anyLong(), eq(1L)))
+                .thenReturn(1);
+        when(jdbcTemplate.update(anyString(), eq("Juan"), eq("Pérez"), eq("juan.perez@email.com"), eq("email.com"), anyLong(), eq(999L)))
+                .thenReturn(0);
+
+        Optional<Student> updated = studentRepositoryAdapter.update(testStudent);
+
+        assertTrue(updated.isPresent());
+        assertNotNull(updated.get().getVersion());
+        assertTrue(studentRepositoryAdapter.update(new Student(999L, "Juan", "Pérez", "juan.perez@email.com")).isEmpty());
+        verify(studentEmailFilter, times(1)).add("juan.perez@email.com");
+        verify(eventLog).append(StudentChangeEvent.Type.UPDATED, List.of(updated.get()));
+        verifyNoInteractions(studentJpaRepository);
     }
 
     @Test
@@ -68,6 +163,80 @@ class StudentRepositoryAdapterTest {
         verify(studentJpaRepository, times(1)).findById(1L);
     }
 
+    @Test
+    @DisplayName("Should share one query between concurrent lookups of the same ID, each getting its own copy")
+    void testFindById_CoalescesConcurrentCallers() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(studentJpaRepository.findById(1L)).thenAnswer(invocation -> {
+            started.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return Optional.of(testEntity);
+        });
+
+        List<Optional<Student>> results = concurrently(8, () -> studentRepositoryAdapter.findById(1L), started, release);
+
+        verify(studentJpaRepository, times(1)).findById(1L);
+        for (Optional<Student> result : results) {
+            assertEquals("Juan", result.orElseThrow().getFirstName());
+        }
+        assertNotSame(results.get(0).orElseThrow(), results.get(1).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should not let a lookup after a write join a query that started before it")
+    void testFindById_WriteDuringFlight() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StudentJpaEntity renamed = new StudentJpaEntity();
+        renamed.setStudentId(1L);
+        renamed.setFirstName("Pedro");
+        renamed.setLastName("Pérez");
+        renamed.setEmail("juan.perez@email.com");
+        when(studentJpaRepository.findById(1L)).thenAnswer(invocation -> {
+            started.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return Optional.of(testEntity);
+        }).thenReturn(Optional.of(renamed));
+        when(jdbcTemplate.update(anyString(), eq("Pedro"), eq("Pérez"), eq("juan.perez@email.com"), eq("email.com"),
+                anyLong(), eq(1L))).thenReturn(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Optional<Student>> stale = executor.submit(() -> studentRepositoryAdapter.findById(1L));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            studentRepositoryAdapter.update(new Student(1L, "Pedro", "Pérez", "juan.perez@email.com"));
+
+            assertEquals("Pedro", studentRepositoryAdapter.findById(1L).orElseThrow().getFirstName());
+            release.countDown();
+            assertEquals("Juan", stale.get(5, TimeUnit.SECONDS).orElseThrow().getFirstName());
+            verify(studentJpaRepository, times(2)).findById(1L);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should read a student in a read-only transaction, so it can be routed to a replica")
+    void testFindById_ReadOnlyTransaction() {
+        when(studentJpaRepository.findById(1L)).thenReturn(Optional.of(testEntity));
+
+        assertTrue(studentRepositoryAdapter.findById(1L).isPresent());
+
+        verify(transactionManager).getTransaction(argThat(definition -> definition != null && definition.isReadOnly()));
+    }
+
+    @Test
+    @DisplayName("Should read a recently written student outside any transaction, i.e. from the primary")
+    void testFindById_RecentlyWritten() {
+        when(recentWrites.contains(1L)).thenReturn(true);
+        when(studentJpaRepository.findById(1L)).thenReturn(Optional.of(testEntity));
+
+        assertTrue(studentRepositoryAdapter.findById(1L).isPresent());
+
+        verifyNoInteractions(transactionManager);
+    }
+
     @Test
     @DisplayName("Should return empty Optional if not found")
     void testFindById_NotFound() {
@@ -92,22 +261,314 @@ class StudentRepositoryAdapterTest {
     }
 
     @Test
-    @DisplayName("Should delete a student")
+    @DisplayName("Should seek the next page after the given ID")
+    void testFindPageAfter() {
+        when(studentJpaRepository.findByStudentIdGreaterThanOrderByStudentIdAsc(0L, Limit.of(10)))
+                .thenReturn(List.of(testEntity));
+
+        List<Student> result = studentRepositoryAdapter.findPageAfter(0L, 10);
+
+        assertEquals(1, result.size());
+        assertEquals(1L, result.get(0).getStudentId());
+    }
+
+    @Test
+    @DisplayName("Should select only the requested fields and leave the others null")
+    void testFindPageAfterWithFields() {
+        Tuple row = mock(Tuple.class);
+        when(row.get("studentId", Long.class)).thenReturn(1L);
+        when(row.get("email", String.class)).thenReturn("juan.perez@email.com");
+        when(studentJpaRepository.findProjected(List.of("studentId", "email"), 0L, Limit.of(10)))
+                .thenReturn(List.of(row));
+
+        List<Student> result = studentRepositoryAdapter.findPageAfter(0L, 10,
+                EnumSet.of(StudentField.EMAIL, StudentField.STUDENT_ID));
+
+        assertEquals(1, result.size());
+        assertEquals(1L, result.get(0).getStudentId());
+        assertEquals("juan.perez@email.com", result.get(0).getEmail());
+        assertNull(result.get(0).getFirstName());
+        assertNull(result.get(0).getVersion());
+        verify(studentJpaRepository, never()).findByStudentIdGreaterThanOrderByStudentIdAsc(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should stream every student and detach each entity once consumed")
+    void testStreamAll() {
+        when(studentJpaRepository.streamAllByOrderByStudentIdAsc()).thenReturn(Stream.of(testEntity));
+        List<Student> consumed = new ArrayList<>();
+
+        studentRepositoryAdapter.streamAll(consumed::add);
+
+        assertEquals(1, consumed.size());
+        assertEquals("juan.perez@email.com", consumed.get(0).getEmail());
+        verify(entityManager, times(1)).detach(testEntity);
+    }
+
+    @Test
+    @DisplayName("Should delete a student with one statement and report whether a row matched")
     void testDeleteById() {
-        doNothing().when(studentJpaRepository).deleteById(1L);
+        when(jdbcTemplate.update("DELETE FROM tbl_students WHERE student_id = ?", 1L)).thenReturn(1);
+        when(jdbcTemplate.update("DELETE FROM tbl_students WHERE student_id = ?", 999L)).thenReturn(0);
 
-        studentRepositoryAdapter.deleteById(1L);
+        assertTrue(studentRepositoryAdapter.deleteById(1L));
+        assertFalse(studentRepositoryAdapter.deleteById(999L));
+        verifyNoInteractions(studentJpaRepository);
+        verify(studentSuggestions).remove(1L);
+        verify(studentSuggestions, never()).remove(999L);
+        verify(recentWrites).record(1L);
+        verify(eventLog).append(eq(StudentChangeEvent.Type.DELETED),
+                argThat(students -> students.size() == 1 && students.get(0).getStudentId() == 1L));
+        verifyNoMoreInteractions(eventLog);
+    }
 
-        verify(studentJpaRepository, times(1)).deleteById(1L);
+    @Test
+    @DisplayName("Should delete a set of students with a single IN statement")
+    void testDeleteAllById() {
+        when(jdbcTemplate.update("DELETE FROM tbl_students WHERE student_id IN (?, ?)", 1L, 2L)).thenReturn(2);
+
+        assertEquals(2, studentRepositoryAdapter.deleteAllById(List.of(1L, 2L)));
+        assertEquals(0, studentRepositoryAdapter.deleteAllById(List.of()));
+        verify(eventLog).appendDeleted(eq(List.of(1L, 2L)), anyLong());
+        verifyNoMoreInteractions(eventLog);
     }
 
     @Test
     @DisplayName("Should verify if an email exists")
     void testExistsByEmail() {
+        when(studentEmailFilter.mightContain(anyString())).thenReturn(true);
         when(studentJpaRepository.existsByEmail("juan.perez@email.com")).thenReturn(true);
         when(studentJpaRepository.existsByEmail("otro@email.com")).thenReturn(false);
 
         assertTrue(studentRepositoryAdapter.existsByEmail("juan.perez@email.com"));
         assertFalse(studentRepositoryAdapter.existsByEmail("otro@email.com"));
+        verify(studentEmailFilter, times(1)).recordDatabaseAnswer(false);
+    }
+
+    @Test
+    @DisplayName("Should answer from the email filter without querying when the email is definitely new")
+    void testExistsByEmail_FilteredOut() {
+        when(studentEmailFilter.mightContain("nuevo@email.com")).thenReturn(false);
+
+        assertFalse(studentRepositoryAdapter.existsByEmail("nuevo@email.com"));
+        verify(studentJpaRepository, never()).existsByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("Should map every known email to its owner's ID in one query, skipping filtered-out emails")
+    void testFindIdsByEmails() {
+        StudentEmailView view = mock(StudentEmailView.class);
+        when(view.getEmail()).thenReturn("juan.perez@email.com");
+        when(view.getStudentId()).thenReturn(1L);
+        when(studentEmailFilter.mightContain("juan.perez@email.com")).thenReturn(true);
+        when(studentEmailFilter.mightContain("nuevo@email.com")).thenReturn(false);
+        when(studentJpaRepository.findByEmailIn(List.of("juan.perez@email.com")))
+                .thenReturn(List.of(view));
+
+        Map<String, Long> result = studentRepositoryAdapter.findIdsByEmails(
+                List.of("juan.perez@email.com", "nuevo@email.com"));
+
+        assertEquals(Map.of("juan.perez@email.com", 1L), result);
+    }
+
+    @Test
+    @DisplayName("Should return only the students whose row was touched by the update batch")
+    @SuppressWarnings("unchecked")
+    void testUpdateAll() {
+        Student missing = new Student(7L, "Pedro", "García", "pedro.garcia@email.com");
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][] {{1, 0}});
+
+        List<Student> result = studentRepositoryAdapter.updateAll(List.of(testStudent, missing));
+
+        assertEquals(1, result.size());
+        assertEquals(1L, result.get(0).getStudentId());
+        assertNotNull(result.get(0).getVersion());
+        verify(eventLog).append(StudentChangeEvent.Type.UPDATED, result);
+    }
+
+    @Test
+    @DisplayName("Should undo every row of a batch that hits a duplicate and keep the transaction usable for a retry")
+    void testInsertAll_DuplicateUndoesWholeBatch() {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        try {
+            JdbcTemplate h2 = new JdbcTemplate(database);
+            h2.execute("CREATE TABLE tbl_students (student_id BIGINT AUTO_INCREMENT PRIMARY KEY, first_name VARCHAR(255), "
+                    + "last_name VARCHAR(255), email_address VARCHAR(255) UNIQUE, email_domain VARCHAR(255), version BIGINT)");
+            h2.update("INSERT INTO tbl_students (first_name, last_name, email_address, email_domain, version) "
+                    + "VALUES ('Juan', 'Pérez', 'juan.perez@email.com', 'email.com', 1)");
+            StudentRepositoryAdapter adapter = new StudentRepositoryAdapter(studentJpaRepository, entityManager, h2,
+                    studentEmailFilter, studentSuggestions, recentWrites, eventLog, transactionManager);
+            Student maria = new Student("María", "González", "maria.gonzalez@email.com");
+            Student ana = new Student("Ana", "López", "ana.lopez@email.com");
+
+            new TransactionTemplate(new DataSourceTransactionManager(database)).executeWithoutResult(status -> {
+                assertThrows(DuplicateEmailException.class, () -> adapter.insertAll(
+                        List.of(maria, new Student("Otro", "Juan", "juan.perez@email.com"), ana)));
+                assertEquals(1, h2.queryForObject("SELECT COUNT(*) FROM tbl_students", Integer.class));
+
+                adapter.insert(maria);
+                adapter.insert(ana);
+            });
+
+            assertEquals(3, h2.queryForObject("SELECT COUNT(*) FROM tbl_students", Integer.class));
+            verify(studentEmailFilter).invalidate();
+        } finally {
+            database.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should drop the email filter when a batch hits a duplicate the pre-check did not find")
+    @SuppressWarnings("unchecked")
+    void testUpdateAll_DuplicateEmailInvalidatesFilter() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DuplicateKeyException("Duplicate entry"));
+
+        assertThrows(DuplicateEmailException.class, () -> studentRepositoryAdapter.updateAll(List.of(testStudent)));
+        verify(studentEmailFilter).invalidate();
+        verifyNoInteractions(eventLog);
+    }
+
+    @Test
+    @DisplayName("Should search with escaped prefix patterns and hint the index meant to serve the query")
+    void testSearch() {
+        when(studentJpaRepository.search("P!%r!_%", "%", "email.%",
+                Sort.by(Sort.Direction.ASC, "lastName", "firstName", "studentId"), Limit.of(10)))
+                .thenReturn(List.of(testEntity));
+
+        StudentSearchResult result = studentRepositoryAdapter.search(new StudentSearchCriteria(
+                "P%r_", null, "Email.", StudentSearchCriteria.SortField.LAST_NAME, false, 10));
+
+        assertEquals(1, result.getStudents().size());
+        assertEquals("juan.perez@email.com", result.getStudents().get(0).getEmail());
+        assertEquals("idx_students_last_first", result.getIndexHint());
+        assertTrue(result.isIndexedHint());
+    }
+
+    @Test
+    @DisplayName("Should hint that searches whose order the filtering index cannot serve are not indexed")
+    void testSearchPlanWithoutIndexOrder() {
+        when(studentJpaRepository.search(anyString(), anyString(), anyString(), any(Sort.class), any(Limit.class)))
+                .thenReturn(List.of());
+
+        StudentSearchResult byDomain = studentRepositoryAdapter.search(new StudentSearchCriteria(
+                null, null, "email.com", StudentSearchCriteria.SortField.LAST_NAME, false, 10));
+        StudentSearchResult byFirstName = studentRepositoryAdapter.search(new StudentSearchCriteria(
+                null, "Ju", null, StudentSearchCriteria.SortField.FIRST_NAME, true, 10));
+
+        assertEquals("idx_students_email_domain", byDomain.getIndexHint());
+        assertFalse(byDomain.isIndexedHint());
+        assertEquals("idx_students_first_last", byFirstName.getIndexHint());
+        assertTrue(byFirstName.isIndexedHint());
+    }
+
+    @Test
+    @DisplayName("Should answer suggestions from the index once it is built")
+    void testSuggestFromIndex() {
+        when(studentSuggestions.isReady()).thenReturn(true);
+        when(studentSuggestions.suggest("jua", 5)).thenReturn(List.of(testStudent));
+
+        List<Student> result = studentRepositoryAdapter.suggest("jua", 5);
+
+        assertEquals(List.of(testStudent), result);
+        verifyNoInteractions(studentJpaRepository);
+    }
+
+    @Test
+    @DisplayName("Should fall back to a last-name prefix search while the index is not built")
+    void testSuggestFallsBackToSearch() {
+        when(studentSuggestions.isReady()).thenReturn(false);
+        when(studentJpaRepository.search("P%", "%", "%",
+                Sort.by(Sort.Direction.ASC, "lastName", "firstName", "studentId"), Limit.of(5)))
+                .thenReturn(List.of(testEntity));
+
+        List<Student> result = studentRepositoryAdapter.suggest("P", 5);
+
+        assertEquals(1, result.size());
+        assertEquals(1L, result.get(0).getStudentId());
+        verify(studentSuggestions, never()).suggest(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should read the collection version with a single aggregate query")
+    @SuppressWarnings("unchecked")
+    void testFindCollectionVersion() {
+        when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class)))
+                .thenReturn(new StudentCollectionVersion(42L, 3L));
+
+        StudentCollectionVersion result = studentRepositoryAdapter.findCollectionVersion();
+
+        assertEquals(42L, result.getVersionSum());
+        assertEquals(3L, result.getCount());
+        verifyNoInteractions(studentJpaRepository);
+    }
+
+    @Test
+    @DisplayName("Should move the collection version on an update stamped below other rows, while the count stays")
+    void testUpdate_CollectionVersionIgnoresStampOrder() {
+        DriverManagerDataSource database = new DriverManagerDataSource("jdbc:h2:mem:versions;DB_CLOSE_DELAY=-1");
+        JdbcTemplate h2 = new JdbcTemplate(database);
+        try {
+            h2.execute("CREATE TABLE tbl_students (student_id BIGINT AUTO_INCREMENT PRIMARY KEY, first_name VARCHAR(255), "
+                    + "last_name VARCHAR(255), email_address VARCHAR(255) UNIQUE, email_domain VARCHAR(255), version BIGINT)");
+            // Stamped by an instance whose clock ran far ahead of this one's.
+            h2.update("INSERT INTO tbl_students (first_name, last_name, email_address, email_domain, version) "
+                    + "VALUES ('Juan', 'Pérez', 'juan.perez@email.com', 'email.com', 9000000000000000000)");
+            h2.update("INSERT INTO tbl_students (first_name, last_name, email_address, email_domain, version) "
+                    + "VALUES ('María', 'González', 'maria.gonzalez@email.com', 'email.com', 1)");
+            StudentRepositoryAdapter adapter = new StudentRepositoryAdapter(studentJpaRepository, entityManager, h2,
+                    studentEmailFilter, studentSuggestions, recentWrites, eventLog, transactionManager);
+            StudentCollectionVersion before = adapter.findCollectionVersion();
+
+            Student first = adapter.update(new Student(2L, "María", "González", "maria.g@email.com")).orElseThrow();
+            StudentCollectionVersion afterFirst = adapter.findCollectionVersion();
+            adapter.update(new Student(2L, "María", "González", "maria.gonzalez@email.com")).orElseThrow();
+            StudentCollectionVersion afterSecond = adapter.findCollectionVersion();
+
+            assertTrue(first.getVersion() < 9000000000000000000L);
+            assertEquals(before.getCount(), afterFirst.getCount());
+            assertNotEquals(before.getVersionSum(), afterFirst.getVersionSum());
+            assertNotEquals(afterFirst.getVersionSum(), afterSecond.getVersionSum());
+            assertEquals(9000000000000000000L + first.getVersion(), afterFirst.getVersionSum(), "wraps past Long.MAX_VALUE");
+        } finally {
+            h2.execute("SHUTDOWN");
+        }
+    }
+
+    @Test
+    @DisplayName("Should skip the database for empty batches")
+    void testEmptyBatches() {
+        assertTrue(studentRepositoryAdapter.insertAll(List.of()).isEmpty());
+        assertTrue(studentRepositoryAdapter.updateAll(List.of()).isEmpty());
+        assertTrue(studentRepositoryAdapter.findIdsByEmails(List.of()).isEmpty());
+        verifyNoInteractions(jdbcTemplate);
+        verifyNoInteractions(eventLog);
+    }
+
+    // Starts one caller, waits until its query is running, then starts the rest so they join it.
+    private static <T> List<T> concurrently(int callers, Callable<T> call, CountDownLatch started,
+                                            CountDownLatch release) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            futures.add(executor.submit(call));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < callers; i++) {
+                futures.add(executor.submit(call));
+            }
+            Thread.sleep(200);
+            release.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(5, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
     }
 }
@@ -0,0 +1,86 @@
+package com.example.course_api.infrastructure.adapter.output.persistence;
+
+import com.example.course_api.domain.model.Student;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Tests for StudentSuggestionIndex")
+class StudentSuggestionIndexTest {
+
+    @Test
+    @DisplayName("Should match word prefixes of first name, last name and email, ignoring case and accents")
+    void testMatchesWordPrefixes() {
+        StudentSuggestionIndex index = new StudentSuggestionIndex(16);
+        index.put(1L, "Juan", "Pérez", "juan.perez@email.com", 10L);
+        index.put(2L, "María", "González", "maria.g@school.edu", 11L);
+
+        assertEquals(List.of(1L), ids(index.suggest("PER", 10)));
+        assertEquals(List.of(2L), ids(index.suggest("gonz", 10)));
+        assertEquals(List.of(2L), ids(index.suggest("school", 10)));
+        assertEquals(List.of(2L), ids(index.suggest("m", 10)));
+        assertEquals(List.of(1L, 2L), ids(index.suggest("e", 10)));
+        assertTrue(index.suggest("xyz", 10).isEmpty());
+
+        Student juan = index.suggest("juan", 10).get(0);
+        assertEquals("Pérez", juan.getLastName());
+        assertEquals("juan.perez@email.com", juan.getEmail());
+        assertEquals(10L, juan.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should require every query word to match and check words longer than the gram length")
+    void testMultiWordAndLongQueries() {
+        StudentSuggestionIndex index = new StudentSuggestionIndex(16);
+        index.put(1L, "Juan", "Pérez", "juan.perez@email.com", 1L);
+        index.put(2L, "Juan", "García", "juan.garcia@email.com", 1L);
+        index.put(3L, "Bartholomew", "Smith", "bart@email.com", 1L);
+
+        assertEquals(List.of(2L), ids(index.suggest("juan gar", 10)));
+        assertEquals(List.of(3L), ids(index.suggest("bartholo", 10)));
+        assertTrue(index.suggest("bartholomaus", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reflect updates and deletes and stop at the limit")
+    void testUpdatesDeletesAndLimit() {
+        StudentSuggestionIndex index = new StudentSuggestionIndex(16);
+        for (long id = 1; id <= 5; id++) {
+            index.put(id, "Ana", "López" + id, "ana" + id + "@email.com", id);
+        }
+
+        index.put(2L, "Beatriz", "López2", "bea@email.com", 20L);
+        assertTrue(index.remove(3L));
+        assertFalse(index.remove(3L));
+
+        assertEquals(List.of(1L, 4L, 5L), ids(index.suggest("ana", 10)));
+        assertEquals(List.of(2L), ids(index.suggest("bea", 10)));
+        assertEquals(List.of(1L, 4L), ids(index.suggest("ana", 2)));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    @DisplayName("Should grow past its initial capacity and keep IDs addressable")
+    void testGrowth() {
+        StudentSuggestionIndex index = new StudentSuggestionIndex(16);
+        for (long id = 1; id <= 20_000; id++) {
+            index.put(id, "First" + id, "Last" + id, "student" + id + "@email.com", id);
+        }
+        for (long id = 1; id <= 20_000; id += 2) {
+            index.remove(id);
+        }
+
+        assertEquals(10_000, index.size());
+        assertEquals(List.of(12_346L), ids(index.suggest("student12346", 5)));
+        assertTrue(index.suggest("last12345", 5).isEmpty());
+        assertEquals(5, index.suggest("first", 5).size());
+        assertTrue(index.estimatedBytes() > 0);
+    }
+
+    private static List<Long> ids(List<Student> students) {
+        return students.stream().map(Student::getStudentId).toList();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.course_api.infrastructure.metrics;
+
+import com.example.course_api.application.port.input.StudentUseCase;
+import com.example.course_api.application.port.output.StudentRepositoryPort;
+import com.example.course_api.domain.model.Student;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests for the timed StudentUseCase and StudentRepositoryPort decorators")
+class TimedStudentRepositoryPortTest {
+
+    @Mock
+    private StudentRepositoryPort studentRepositoryPort;
+
+    @Mock
+    private StudentUseCase studentUseCase;
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should delegate and time each port method under its own tag")
+    void testTimesPortCalls() {
+        Student student = new Student(1L, "Juan", "Pérez", "juan.perez@email.com");
+        when(studentRepositoryPort.findById(1L)).thenReturn(Optional.of(student));
+        TimedStudentRepositoryPort port = new TimedStudentRepositoryPort(studentRepositoryPort, registry, "studentRepositoryAdapter");
+
+        assertSame(student, port.findById(1L).orElseThrow());
+        port.findById(1L);
+
+        Timer findById = registry.get("students.repository")
+                .tags("component", "studentRepositoryAdapter", "method", "findById").timer();
+        Timer insert = registry.get("students.repository").tags("method", "insert").timer();
+        assertEquals(2, findById.count());
+        assertEquals(0, insert.count());
+    }
+
+    @Test
+    @DisplayName("Should time failed calls and rethrow the original exception")
+    void testTimesFailedCalls() {
+        when(studentUseCase.getStudentById(1L)).thenThrow(new IllegalStateException("boom"));
+        TimedStudentUseCase useCase = new TimedStudentUseCase(studentUseCase, registry, "studentService");
+
+        assertThrows(IllegalStateException.class, () -> useCase.getStudentById(1L));
+
+        assertEquals(1, registry.get("students.usecase").tags("method", "getStudentById").timer().count());
+    }
+}